@@ -0,0 +1,29 @@
+package com.tommasoamadori.pokedex.admission;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the adaptive concurrency limit in front of the Pokémon endpoints.
+ *
+ * @param enabled         Whether requests above the limit are shed.
+ * @param initialLimit    Concurrency limit at startup.
+ * @param minLimit        Lowest concurrency limit.
+ * @param maxLimit        Highest concurrency limit, at most the threads of the endpoint executors, since requests
+ *                        admitted above it would only wait in the executor queues.
+ * @param smoothing       Weight of a new limit estimate, between 0 and 1.
+ * @param translatedShare Share of the limit available to translated requests, so they are shed first.
+ * @param retryAfter      Value of the Retry-After header of the shed requests.
+ */
+@ConfigurationProperties("pokedex.admission")
+public record AdmissionConfiguration(
+        @Bindable(defaultValue = "true") boolean enabled,
+        @Bindable(defaultValue = "20") int initialLimit,
+        @Bindable(defaultValue = "4") int minLimit,
+        @Bindable(defaultValue = "96") int maxLimit,
+        @Bindable(defaultValue = "0.2") double smoothing,
+        @Bindable(defaultValue = "0.7") double translatedShare,
+        @Bindable(defaultValue = "1s") Duration retryAfter
+) { }
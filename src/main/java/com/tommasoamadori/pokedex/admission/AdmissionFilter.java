@@ -0,0 +1,79 @@
+package com.tommasoamadori.pokedex.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.annotation.Order;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sheds the Pokémon requests exceeding the adaptive concurrency limit with a 503 and a Retry-After header,
+ * before they queue in the blocking executor. Translated requests are shed before plain lookups, and so are teams:
+ * whether a team is translated is only known from its body, read after the filters, and like the gRPC batches
+ * a team is bulk traffic anyway.
+ */
+@Slf4j
+@Order(-100)
+@ServerFilter("/pokemon/**")
+public class AdmissionFilter {
+
+    private static final String TRANSLATED_PATH = "/pokemon/translated/";
+    private static final String TEAM_PATH = "/pokemon/team";
+    private static final String START_ATTRIBUTE = "pokedex.admission.start";
+
+    private final GradientLimiter limiter;
+    private final AdmissionConfiguration configuration;
+    private final Counter highPriorityRejections;
+    private final Counter lowPriorityRejections;
+
+    public AdmissionFilter(GradientLimiter limiter, AdmissionConfiguration configuration, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.configuration = configuration;
+        this.highPriorityRejections = meterRegistry.counter("pokedex.admission.rejected", "priority", "high");
+        this.lowPriorityRejections = meterRegistry.counter("pokedex.admission.rejected", "priority", "low");
+
+        meterRegistry.gauge("pokedex.admission.limit", limiter, GradientLimiter::getLimit);
+        meterRegistry.gauge("pokedex.admission.in-flight", limiter, GradientLimiter::getInFlight);
+    }
+
+    @Nullable
+    @RequestFilter
+    public HttpResponse<?> admit(HttpRequest<?> request) {
+        if (!configuration.enabled()) {
+            return null;
+        }
+
+        final RequestPriority priority = request.getPath().startsWith(TRANSLATED_PATH) || request.getPath().equals(TEAM_PATH)
+                ? RequestPriority.LOW
+                : RequestPriority.HIGH;
+
+        if (!limiter.tryAcquire(priority)) {
+            (priority == RequestPriority.HIGH ? highPriorityRejections : lowPriorityRejections).increment();
+            log.warn("Concurrency limit {} reached, shedding {}", limiter.getLimit(), request.getPath());
+
+            return HttpResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, configuration.retryAfter().toSeconds())));
+        }
+
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return null;
+    }
+
+    @ResponseFilter
+    public void release(HttpRequest<?> request, HttpResponse<?> response) {
+        // Removing the attribute guarantees a single release per admitted request
+        request.removeAttribute(START_ATTRIBUTE, Long.class).ifPresent(start -> {
+            final boolean dropped = response.code() == HttpStatus.SERVICE_UNAVAILABLE.getCode()
+                    || response.code() == HttpStatus.GATEWAY_TIMEOUT.getCode();
+
+            limiter.release(System.nanoTime() - start, dropped);
+        });
+    }
+}
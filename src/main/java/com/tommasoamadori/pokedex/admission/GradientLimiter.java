@@ -0,0 +1,100 @@
+package com.tommasoamadori.pokedex.admission;
+
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limit driven by the observed latency, after the Gradient algorithm.
+ *
+ * <p>
+ * A long-term average of the latency is compared with each new sample: while the samples stay close to
+ * the average the limit grows by a small queue allowance, and when they rise above it the limit shrinks
+ * proportionally. Errors and timeouts shrink the limit multiplicatively.
+ * </p>
+ */
+@Singleton
+public class GradientLimiter {
+
+    private static final double LONG_RTT_WINDOW = 600;
+    private static final double DROP_BACKOFF = 0.9;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final AdmissionConfiguration configuration;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    public GradientLimiter(AdmissionConfiguration configuration) {
+        this.configuration = configuration;
+        this.limit = configuration.initialLimit();
+    }
+
+    /**
+     * Tries to admit a request.
+     *
+     * @param priority The priority of the request.
+     * @return {@code true} if the request is admitted and must later call {@link #release(long, boolean)}.
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        final int allowed = priority == RequestPriority.HIGH
+                ? (int) limit
+                : Math.max(1, (int) (limit * configuration.translatedShare()));
+
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request and updates the limit with its latency.
+     *
+     * @param rttNanos The latency of the request.
+     * @param dropped  Whether the request failed because of overload (timeout, upstream error).
+     */
+    public void release(long rttNanos, boolean dropped) {
+        final int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtCompletion, dropped);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion, boolean dropped) {
+        if (dropped) {
+            limit = clamp(limit * DROP_BACKOFF);
+            return;
+        }
+
+        longRttNanos = longRttNanos == 0
+                ? rttNanos
+                : longRttNanos + (rttNanos - longRttNanos) / LONG_RTT_WINDOW;
+
+        // The service is not using its limit, so the samples say nothing about it
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        final double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, longRttNanos / rttNanos));
+        final double queueSize = Math.sqrt(limit);
+        final double estimatedLimit = limit * gradient + queueSize;
+
+        limit = clamp(limit * (1 - configuration.smoothing()) + estimatedLimit * configuration.smoothing());
+    }
+
+    private double clamp(double value) {
+        return Math.max(configuration.minLimit(), Math.min(configuration.maxLimit(), value));
+    }
+}
@@ -0,0 +1,8 @@
+package com.tommasoamadori.pokedex.admission;
+
+public enum RequestPriority {
+    /** Plain lookups, admitted up to the whole limit. */
+    HIGH,
+    /** Translated lookups, shed first when the service is overloaded. */
+    LOW
+}
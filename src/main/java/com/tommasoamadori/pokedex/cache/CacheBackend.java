@@ -0,0 +1,28 @@
+package com.tommasoamadori.pokedex.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Shared (second tier) cache storage, visible to every replica of the service.
+ * Values are stored as serialized JSON strings.
+ */
+public interface CacheBackend {
+
+    Optional<String> get(String key);
+
+    void put(String key, String value, Duration ttl);
+
+    void delete(String key);
+
+    /**
+     * Broadcasts an invalidation message to every subscribed replica, this one included.
+     *
+     * @param message The invalidation message.
+     */
+    void publishInvalidation(String message);
+
+    void subscribeInvalidations(Consumer<String> listener);
+
+}
@@ -0,0 +1,26 @@
+package com.tommasoamadori.pokedex.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the two-tier cache.
+ *
+ * @param enabled            Whether caching is enabled at all.
+ * @param nearTtl            Time to live of the entries in the local near-cache.
+ * @param nearMaximumSize    Maximum number of entries kept in the local near-cache.
+ * @param infoTtl            Time to live of the Pokémon information in the shared cache.
+ * @param translationTtl     Time to live of the translations in the shared cache.
+ * @param localMaximumSize   Maximum number of entries kept by the in-process shared cache of the "local" backend.
+ */
+@ConfigurationProperties("pokedex.cache")
+public record CacheConfiguration(
+        @Bindable(defaultValue = "true") boolean enabled,
+        @Bindable(defaultValue = "30s") Duration nearTtl,
+        @Bindable(defaultValue = "10000") long nearMaximumSize,
+        @Bindable(defaultValue = "1h") Duration infoTtl,
+        @Bindable(defaultValue = "7d") Duration translationTtl,
+        @Bindable(defaultValue = "100000") long localMaximumSize
+) { }
@@ -0,0 +1,41 @@
+package com.tommasoamadori.pokedex.cache;
+
+import java.util.Optional;
+
+/**
+ * Keys of the values stored in the {@link TwoTierCache}, all starting with their kind and the canonical species name.
+ */
+public final class CacheKeys {
+
+    private static final String INFO_PREFIX = "info:";
+    private static final String TRANSLATION_PREFIX = "translation:";
+    private static final String SEPARATOR = ":";
+
+    private CacheKeys() { }
+
+    public static String info(String species) {
+        return INFO_PREFIX + species;
+    }
+
+    /**
+     * The description is part of the key, so a changed description never gets a stale translation.
+     */
+    public static String translation(String style, String species, String description) {
+        return TRANSLATION_PREFIX + "%s:%s:%08x".formatted(style, species, description.hashCode());
+    }
+
+    /**
+     * @return The species a key refers to, empty for keys of another kind.
+     */
+    public static Optional<String> speciesOf(String key) {
+        if (key.startsWith(INFO_PREFIX)) {
+            return Optional.of(key.substring(INFO_PREFIX.length()));
+        }
+        if (key.startsWith(TRANSLATION_PREFIX)) {
+            final String[] parts = key.split(SEPARATOR);
+            return parts.length == 4 ? Optional.of(parts[2]) : Optional.empty();
+        }
+
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,80 @@
+package com.tommasoamadori.pokedex.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for the shared cache, used for single instance deployments and tests.
+ * It honours TTLs and delivers invalidation messages to local subscribers, so it behaves
+ * like a Redis instance shared by the replicas of a single JVM.
+ *
+ * <p>
+ * Entries live in a Caffeine cache bounded by {@code pokedex.cache.local-maximum-size}, which expires each
+ * entry after its own TTL, so entries that are never read again are freed too.
+ * </p>
+ */
+@Singleton
+@Requires(property = "pokedex.cache.backend", value = "local", defaultValue = "local")
+public class LocalCacheBackend implements CacheBackend {
+
+    private final Cache<String, Entry> entries;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public LocalCacheBackend(CacheConfiguration configuration) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(configuration.localMaximumSize())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(entries.getIfPresent(key)).map(Entry::value);
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        entries.put(key, new Entry(value, ttl.toNanos()));
+    }
+
+    @Override
+    public void delete(String key) {
+        entries.invalidate(key);
+    }
+
+    @Override
+    public void publishInvalidation(String message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribeInvalidations(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    private record Entry(String value, long ttlNanos) { }
+}
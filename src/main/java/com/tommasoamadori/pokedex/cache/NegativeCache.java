@@ -0,0 +1,72 @@
+package com.tommasoamadori.pokedex.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.inject.Singleton;
+
+/**
+ * Bounded local cache of the Pokémon names PokeAPI answered with a 404,
+ * used to short-circuit repeated lookups of unknown names.
+ */
+@Singleton
+public class NegativeCache {
+
+    private static final String CACHE_NAME = "pokemon-not-found";
+
+    private final NegativeCacheConfiguration configuration;
+    private final Cache<String, Boolean> missingNames;
+    private final Counter hits;
+    private final Counter stores;
+
+    public NegativeCache(NegativeCacheConfiguration configuration, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        this.missingNames = Caffeine.newBuilder()
+                .expireAfterWrite(configuration.ttl())
+                .maximumSize(configuration.maximumSize())
+                .recordStats()
+                .build();
+        this.hits = meterRegistry.counter("pokedex.negative-cache.hits");
+        this.stores = meterRegistry.counter("pokedex.negative-cache.stores");
+
+        CaffeineCacheMetrics.monitor(meterRegistry, missingNames, CACHE_NAME);
+    }
+
+    /**
+     * @param name The Pokémon name.
+     * @return {@code true} if the name recently resulted in a 404.
+     */
+    public boolean isKnownMissing(String name) {
+        if (!configuration.enabled() || missingNames.getIfPresent(name) == null) {
+            return false;
+        }
+
+        hits.increment();
+        return true;
+    }
+
+    public void markMissing(String name) {
+        if (!configuration.enabled()) {
+            return;
+        }
+
+        missingNames.put(name, Boolean.TRUE);
+        stores.increment();
+    }
+
+    public CacheStats stats() {
+        return missingNames.stats();
+    }
+
+    /**
+     * Unmarks a name, once PokeAPI returned a species with that name.
+     *
+     * @param name The Pokémon name.
+     */
+    public void forget(String name) {
+        missingNames.invalidate(name);
+    }
+}
@@ -0,0 +1,20 @@
+package com.tommasoamadori.pokedex.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the cache of Pokémon names known not to exist.
+ *
+ * @param enabled     Whether the negative cache is enabled.
+ * @param ttl         How long a name is considered missing before PokeAPI is asked again.
+ * @param maximumSize Maximum number of names kept in the cache.
+ */
+@ConfigurationProperties("pokedex.negative-cache")
+public record NegativeCacheConfiguration(
+        @Bindable(defaultValue = "true") boolean enabled,
+        @Bindable(defaultValue = "10m") Duration ttl,
+        @Bindable(defaultValue = "50000") long maximumSize
+) { }
@@ -0,0 +1,63 @@
+package com.tommasoamadori.pokedex.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process shared cache like {@link LocalCacheBackend}, keeping the serialized values off-heap within a byte budget.
+ * The cached dataset can grow without growing the heap, so the GC pauses stay short on memory-constrained containers.
+ */
+@Slf4j
+@Singleton
+@Requires(property = "pokedex.cache.backend", value = "offheap")
+public class OffHeapCacheBackend implements CacheBackend {
+
+    private final OffHeapStore store;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public OffHeapCacheBackend(OffHeapCacheConfiguration configuration, MeterRegistry meterRegistry) {
+        this.store = new OffHeapStore(configuration.maxBytes(), configuration.slabSize());
+        log.info("Caching up to {} bytes off-heap", store.capacityBytes());
+
+        Gauge.builder("pokedex.cache.off-heap.used-bytes", store, OffHeapStore::usedBytes).register(meterRegistry);
+        Gauge.builder("pokedex.cache.off-heap.entries", store, OffHeapStore::size).register(meterRegistry);
+        FunctionCounter.builder("pokedex.cache.off-heap.evictions", store, OffHeapStore::evictions).register(meterRegistry);
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        return store.get(key, System.nanoTime());
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        if (!store.put(key, value, System.nanoTime() + ttl.toNanos())) {
+            log.debug("Not caching {}, larger than a slab", key);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        store.remove(key);
+    }
+
+    @Override
+    public void publishInvalidation(String message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribeInvalidations(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,17 @@
+package com.tommasoamadori.pokedex.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+/**
+ * Configuration of the off-heap shared cache, used when {@code pokedex.cache.backend} is {@code offheap}.
+ *
+ * @param maxBytes Budget of direct memory, the oldest entries are evicted beyond it.
+ *                 The JVM {@code -XX:MaxDirectMemorySize} must leave room for it.
+ * @param slabSize Size of each slab, the unit of allocation and eviction; larger entries are not cached.
+ */
+@ConfigurationProperties("pokedex.cache.off-heap")
+public record OffHeapCacheConfiguration(
+        @Bindable(defaultValue = "268435456") long maxBytes,
+        @Bindable(defaultValue = "4194304") int slabSize
+) { }
@@ -0,0 +1,312 @@
+package com.tommasoamadori.pokedex.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * String store keeping keys and values off-heap, within a fixed byte budget.
+ *
+ * <p>
+ * The budget is split into slabs of direct memory, allocated on first use and written as a ring log:
+ * every record ({@code keyLength, valueLength, expiresAtNanos, key, value}, UTF-8 encoded) is appended to the current slab.
+ * When the ring wraps around, the oldest slab is recycled and its entries evicted, so eviction is FIFO by write time.
+ * Overwritten and removed records are reclaimed the same way.
+ * </p>
+ *
+ * <p>
+ * The heap only holds an open-addressing index with linear probing: the hash and the slab location of every entry,
+ * 12 bytes each, whatever the size of the values.
+ * </p>
+ */
+final class OffHeapStore {
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double MAX_LOAD = 0.75;
+    private static final long EMPTY = -1L;
+
+    private final int slabSize;
+    private final ByteBuffer[] slabs;
+    private final int[] slabEnds;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] locations;
+    private int[] hashes;
+    private int size;
+    private int currentSlab;
+    private long usedBytes;
+    private long evictions;
+
+    OffHeapStore(long maxBytes, int slabSize) {
+        if (slabSize <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Slab size must be greater than %d bytes".formatted(HEADER_BYTES));
+        }
+
+        this.slabSize = slabSize;
+        final int slabCount = (int) Math.max(2, Math.min(Integer.MAX_VALUE, maxBytes / slabSize));
+        this.slabs = new ByteBuffer[slabCount];
+        this.slabEnds = new int[slabCount];
+        this.locations = new long[INITIAL_CAPACITY];
+        this.hashes = new int[INITIAL_CAPACITY];
+        Arrays.fill(locations, EMPTY);
+    }
+
+    Optional<String> get(String key, long nowNanos) {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final int hash = hash(keyBytes);
+
+        lock.readLock().lock();
+        try {
+            final int slot = find(keyBytes, hash);
+            if (slot < 0) {
+                return Optional.empty();
+            }
+
+            final ByteBuffer slab = slabs[slabOf(locations[slot])];
+            final int offset = offsetOf(locations[slot]);
+            if (nowNanos - slab.getLong(offset + Integer.BYTES * 2) > 0) {
+                return Optional.empty();
+            }
+
+            final byte[] value = new byte[slab.getInt(offset + Integer.BYTES)];
+            slab.get(offset + HEADER_BYTES + slab.getInt(offset), value);
+
+            return Optional.of(new String(value, StandardCharsets.UTF_8));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores a value, evicting the oldest entries when the budget is exhausted.
+     *
+     * @return {@code false} if the entry does not fit in a slab and was not stored.
+     */
+    boolean put(String key, String value, long expiresAtNanos) {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        final int recordSize = HEADER_BYTES + keyBytes.length + valueBytes.length;
+        if (recordSize > slabSize) {
+            return false;
+        }
+        final int hash = hash(keyBytes);
+
+        lock.writeLock().lock();
+        try {
+            final long location = allocate(recordSize);
+            final ByteBuffer slab = slabs[slabOf(location)];
+            final int offset = offsetOf(location);
+            slab.putInt(offset, keyBytes.length)
+                    .putInt(offset + Integer.BYTES, valueBytes.length)
+                    .putLong(offset + Integer.BYTES * 2, expiresAtNanos)
+                    .put(offset + HEADER_BYTES, keyBytes)
+                    .put(offset + HEADER_BYTES + keyBytes.length, valueBytes);
+
+            // Looked up after the allocation, which may have evicted the previous record of the key
+            final int slot = find(keyBytes, hash);
+            if (slot >= 0) {
+                locations[slot] = location;
+            } else {
+                insert(hash, location);
+            }
+
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String key) {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final int hash = hash(keyBytes);
+
+        lock.writeLock().lock();
+        try {
+            final int slot = find(keyBytes, hash);
+            if (slot >= 0) {
+                removeAt(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The bytes written in the slabs, including the records overwritten or removed but not yet reclaimed.
+     */
+    long usedBytes() {
+        lock.readLock().lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long capacityBytes() {
+        return (long) slabs.length * slabSize;
+    }
+
+    long evictions() {
+        lock.readLock().lock();
+        try {
+            return evictions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long allocate(int recordSize) {
+        if (slabs[currentSlab] == null) {
+            slabs[currentSlab] = ByteBuffer.allocateDirect(slabSize);
+        }
+
+        if (slabEnds[currentSlab] + recordSize > slabSize) {
+            currentSlab = (currentSlab + 1) % slabs.length;
+            if (slabs[currentSlab] == null) {
+                slabs[currentSlab] = ByteBuffer.allocateDirect(slabSize);
+            } else {
+                recycle(currentSlab);
+            }
+        }
+
+        final int offset = slabEnds[currentSlab];
+        slabEnds[currentSlab] += recordSize;
+        usedBytes += recordSize;
+
+        return ((long) currentSlab << 32) | offset;
+    }
+
+    /**
+     * Evicts the entries whose current record lives in the slab, then empties it.
+     */
+    private void recycle(int slabIndex) {
+        final ByteBuffer slab = slabs[slabIndex];
+        int offset = 0;
+        while (offset < slabEnds[slabIndex]) {
+            final int keyLength = slab.getInt(offset);
+            final int valueLength = slab.getInt(offset + Integer.BYTES);
+            final byte[] keyBytes = new byte[keyLength];
+            slab.get(offset + HEADER_BYTES, keyBytes);
+
+            final long location = ((long) slabIndex << 32) | offset;
+            final int mask = locations.length - 1;
+            for (int i = hash(keyBytes) & mask; locations[i] != EMPTY; i = (i + 1) & mask) {
+                if (locations[i] == location) {
+                    removeAt(i);
+                    evictions++;
+                    break;
+                }
+            }
+
+            offset += HEADER_BYTES + keyLength + valueLength;
+        }
+
+        usedBytes -= slabEnds[slabIndex];
+        slabEnds[slabIndex] = 0;
+    }
+
+    private int find(byte[] keyBytes, int hash) {
+        final int mask = locations.length - 1;
+        for (int i = hash & mask; locations[i] != EMPTY; i = (i + 1) & mask) {
+            if (hashes[i] == hash && keyEquals(locations[i], keyBytes)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private boolean keyEquals(long location, byte[] keyBytes) {
+        final ByteBuffer slab = slabs[slabOf(location)];
+        final int offset = offsetOf(location);
+        if (slab.getInt(offset) != keyBytes.length) {
+            return false;
+        }
+
+        for (int i = 0; i < keyBytes.length; i++) {
+            if (slab.get(offset + HEADER_BYTES + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void insert(int hash, long location) {
+        if (size + 1 > locations.length * MAX_LOAD) {
+            resize();
+        }
+
+        final int mask = locations.length - 1;
+        int i = hash & mask;
+        while (locations[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        locations[i] = location;
+        hashes[i] = hash;
+        size++;
+    }
+
+    /**
+     * Removes a slot, shifting back the following entries of the probe sequence so that no tombstone is needed.
+     */
+    private void removeAt(int slot) {
+        final int mask = locations.length - 1;
+        int hole = slot;
+        locations[hole] = EMPTY;
+        size--;
+
+        for (int i = (hole + 1) & mask; locations[i] != EMPTY; i = (i + 1) & mask) {
+            final int distanceFromHome = (i - (hashes[i] & mask)) & mask;
+            if (distanceFromHome >= ((i - hole) & mask)) {
+                locations[hole] = locations[i];
+                hashes[hole] = hashes[i];
+                locations[i] = EMPTY;
+                hole = i;
+            }
+        }
+    }
+
+    private void resize() {
+        final long[] oldLocations = locations;
+        final int[] oldHashes = hashes;
+        locations = new long[oldLocations.length * 2];
+        hashes = new int[oldHashes.length * 2];
+        Arrays.fill(locations, EMPTY);
+        size = 0;
+
+        for (int i = 0; i < oldLocations.length; i++) {
+            if (oldLocations[i] != EMPTY) {
+                insert(oldHashes[i], oldLocations[i]);
+            }
+        }
+    }
+
+    private static int hash(byte[] keyBytes) {
+        final int hash = Arrays.hashCode(keyBytes);
+        // Spreads the high bits, since the slot is taken from the low ones
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int slabOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+}
@@ -0,0 +1,64 @@
+package com.tommasoamadori.pokedex.cache;
+
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Shared cache backed by Redis (or any server speaking the Redis protocol).
+ * Invalidation messages travel over a Redis pub/sub channel.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+@Requires(property = "pokedex.cache.backend", value = "redis")
+public class RedisCacheBackend implements CacheBackend {
+
+    static final String INVALIDATION_CHANNEL = "pokedex:cache:invalidation";
+
+    private final StatefulRedisConnection<String, String> connection;
+    private final StatefulRedisPubSubConnection<String, String> pubSubConnection;
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(connection.sync().get(key));
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        connection.sync().set(key, value, SetArgs.Builder.px(ttl.toMillis()));
+    }
+
+    @Override
+    public void delete(String key) {
+        connection.sync().del(key);
+    }
+
+    @Override
+    public void publishInvalidation(String message) {
+        connection.sync().publish(INVALIDATION_CHANNEL, message);
+    }
+
+    @Override
+    public void subscribeInvalidations(Consumer<String> listener) {
+        pubSubConnection.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String channel, String message) {
+                if (INVALIDATION_CHANNEL.equals(channel)) {
+                    listener.accept(message);
+                }
+            }
+        });
+        pubSubConnection.sync().subscribe(INVALIDATION_CHANNEL);
+        log.info("Subscribed to {} invalidation channel", INVALIDATION_CHANNEL);
+    }
+}
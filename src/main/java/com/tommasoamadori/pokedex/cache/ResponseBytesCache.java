@@ -0,0 +1,177 @@
+package com.tommasoamadori.pokedex.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.tommasoamadori.pokedex.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.ObjectMapper;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of ready-to-write UTF-8 JSON response bodies, optionally with a pre-compressed gzip variant,
+ * so that hits on hot species skip serialization and compression entirely.
+ * The variant is compressed with the server compression level, above its own threshold, and is kept only if smaller than the JSON body.
+ * The bodies of a species are dropped whenever its data or translations are invalidated in the {@link TwoTierCache}.
+ */
+@Slf4j
+@Singleton
+public class ResponseBytesCache {
+
+    private static final String CACHE_NAME = "response-bytes";
+
+    private final ObjectMapper objectMapper;
+    private final ResponseBytesCacheConfiguration configuration;
+    private final Cache<Key, Body> bodies;
+    private final Map<Key, CompletableFuture<Body>> inFlight = new ConcurrentHashMap<>();
+    private final int compressionLevel;
+
+    public ResponseBytesCache(ObjectMapper objectMapper,
+                              ResponseBytesCacheConfiguration configuration,
+                              TwoTierCache twoTierCache,
+                              MeterRegistry meterRegistry,
+                              @Value("${micronaut.server.netty.compression-level:6}") int compressionLevel) {
+        this.objectMapper = objectMapper;
+        this.configuration = configuration;
+        this.compressionLevel = compressionLevel;
+        this.bodies = Caffeine.newBuilder()
+                .expireAfterWrite(configuration.ttl())
+                .maximumSize(configuration.maximumSize())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, bodies, CACHE_NAME);
+        // The bodies are derived from the cached species data, so they follow its invalidations
+        twoTierCache.addInvalidationListener(cacheKey -> CacheKeys.speciesOf(cacheKey).ifPresent(this::invalidateSpecies));
+    }
+
+    public CacheStats stats() {
+        return bodies.stats();
+    }
+
+    public boolean isEnabled() {
+        return configuration.enabled();
+    }
+
+    /**
+     * Returns the serialized body of a response, serializing the value computed by the loader on a miss.
+     * Concurrent misses of the same key share a single loader invocation, and the body is stored only if
+     * the loader reports the value as cacheable, so degraded responses are never served from the cache.
+     *
+     * @param key    The response key.
+     * @param loader Function computing the response value on a miss.
+     * @return The serialized body.
+     */
+    public Body getOrLoad(Key key, Supplier<Loaded> loader) {
+        while (true) {
+            final Body body = bodies.getIfPresent(key);
+            if (body != null) {
+                return body;
+            }
+
+            final CompletableFuture<Body> load = new CompletableFuture<>();
+            final CompletableFuture<Body> concurrentLoad = inFlight.putIfAbsent(key, load);
+            if (concurrentLoad == null) {
+                return runLoad(key, loader, load);
+            }
+
+            try {
+                return TwoTierCache.join(concurrentLoad);
+            } catch (DeadlineExceededException e) {
+                // A load failed on the deadline of its caller says nothing about the time left to this one
+                if (!concurrentLoad.isCompletedExceptionally()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every serialized body of a species.
+     *
+     * @param species The canonical species name.
+     */
+    public void invalidateSpecies(String species) {
+        bodies.asMap().keySet().removeIf(key -> key.species().equals(species));
+    }
+
+    private Body runLoad(Key key, Supplier<Loaded> loader, CompletableFuture<Body> load) {
+        try {
+            // The loader may perform I/O, so it runs outside of the cache computation
+            final Loaded loaded = loader.get();
+            final Body body = serialize(loaded.value());
+            if (loaded.cacheable()) {
+                bodies.put(key, body);
+            }
+            load.complete(body);
+
+            return body;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    Body serialize(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+
+            if (!configuration.gzip() || json.length < configuration.gzipThreshold()) {
+                return new Body(json, null);
+            }
+
+            final byte[] gzip = gzip(json);
+
+            return new Body(json, gzip.length < json.length ? gzip : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(compressionLevel);
+            }
+        }) {
+            gzipStream.write(content);
+        }
+
+        return compressed.toByteArray();
+    }
+
+    /**
+     * @param endpoint The endpoint producing the response.
+     * @param species  The canonical species name.
+     * @param locale   The language of the descriptions.
+     */
+    public record Key(String endpoint, String species, String locale) { }
+
+    /**
+     * @param value     The response value.
+     * @param cacheable Whether the value can be served to the next requests, false for degraded responses.
+     */
+    public record Loaded(Object value, boolean cacheable) { }
+
+    /**
+     * @param json The UTF-8 JSON body.
+     * @param gzip The gzip compressed JSON body, if enabled, above the gzip threshold and smaller than the JSON body.
+     */
+    public record Body(byte[] json, @Nullable byte[] gzip) { }
+}
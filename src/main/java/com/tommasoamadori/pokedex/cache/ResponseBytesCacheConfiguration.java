@@ -0,0 +1,25 @@
+package com.tommasoamadori.pokedex.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the cache of pre-serialized response bodies.
+ *
+ * @param enabled     Whether the responses are served from pre-serialized bytes.
+ * @param ttl         Time to live of the serialized bodies.
+ * @param maximumSize Maximum number of serialized bodies kept, the hottest ones survive.
+ * @param gzip        Whether to keep a pre-compressed gzip variant of every body.
+ * @param gzipThreshold Bodies smaller than the threshold (in bytes) get no gzip variant. Lower than the server threshold,
+ *                      since single-species bodies are a few hundred bytes and are compressed once rather than per request.
+ */
+@ConfigurationProperties("pokedex.response-cache")
+public record ResponseBytesCacheConfiguration(
+        @Bindable(defaultValue = "false") boolean enabled,
+        @Bindable(defaultValue = "30s") Duration ttl,
+        @Bindable(defaultValue = "2000") long maximumSize,
+        @Bindable(defaultValue = "true") boolean gzip,
+        @Bindable(defaultValue = "128") int gzipThreshold
+) { }
@@ -0,0 +1,277 @@
+package com.tommasoamadori.pokedex.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.tommasoamadori.pokedex.deadline.Deadline;
+import com.tommasoamadori.pokedex.deadline.DeadlineContext;
+import com.tommasoamadori.pokedex.exception.DeadlineExceededException;
+import com.tommasoamadori.pokedex.profiling.CacheLookupEvent;
+import com.tommasoamadori.pokedex.tracing.SpanTracer;
+import io.micronaut.serde.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache: a short-lived local near-cache in front of a {@link CacheBackend} shared by all replicas.
+ *
+ * <p>
+ * Lookups go to the near-cache first, then to the shared cache, and only then to the loader.
+ * Concurrent loads of the same key are coalesced into a single loader invocation; the joining callers wait
+ * within their own request deadline, and load the value again if the shared load failed on the deadline of its caller.
+ * Every write is broadcast as an invalidation message, so the other replicas drop their stale near copy.
+ * Failures of the shared cache are logged and never fail the request.
+ * </p>
+ */
+@Slf4j
+@Singleton
+public class TwoTierCache {
+
+    private static final String MESSAGE_SEPARATOR = "|";
+    private static final String SERVICE_NAME = "cache";
+
+    private final CacheBackend backend;
+    private final ObjectMapper objectMapper;
+    private final CacheConfiguration configuration;
+    private final SpanTracer spanTracer;
+    private final Cache<String, Object> nearCache;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> invalidationListeners = new CopyOnWriteArrayList<>();
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public TwoTierCache(CacheBackend backend, ObjectMapper objectMapper, CacheConfiguration configuration, SpanTracer spanTracer) {
+        this.backend = backend;
+        this.objectMapper = objectMapper;
+        this.configuration = configuration;
+        this.spanTracer = spanTracer;
+        this.nearCache = Caffeine.newBuilder()
+                .expireAfterWrite(configuration.nearTtl())
+                .maximumSize(configuration.nearMaximumSize())
+                .recordStats()
+                .build();
+
+        backend.subscribeInvalidations(this::onInvalidation);
+    }
+
+    /**
+     * Looks up a value in the near-cache and then in the shared cache.
+     *
+     * @param key  The cache key.
+     * @param type The type of the cached value.
+     * @return The cached value, if any.
+     */
+    public <T> Optional<T> get(String key, Class<T> type) {
+        if (!configuration.enabled()) {
+            return Optional.empty();
+        }
+
+        return spanTracer.inSpan("TwoTierCache.get", "cache.key", key, () -> {
+            Object nearValue = nearCache.getIfPresent(key);
+            if (nearValue != null) {
+                Span.current().setAttribute("cache.tier", "near");
+                return Optional.of(type.cast(nearValue));
+            }
+
+            Optional<T> sharedValue = readShared(key, type);
+            sharedValue.ifPresent(value -> nearCache.put(key, value));
+            Span.current().setAttribute("cache.tier", sharedValue.isPresent() ? "shared" : "miss");
+
+            return sharedValue;
+        });
+    }
+
+    /**
+     * Returns the cached value or loads it, storing the result in both tiers.
+     * A {@code null} result of the loader is returned but not cached.
+     *
+     * @param key    The cache key.
+     * @param type   The type of the cached value.
+     * @param ttl    Time to live of the value in the shared cache.
+     * @param loader Function that computes the value on a miss.
+     * @return The cached or loaded value.
+     */
+    public <T> T getOrLoad(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        if (!configuration.enabled()) {
+            return loader.get();
+        }
+
+        CacheLookupEvent lookupEvent = new CacheLookupEvent();
+        lookupEvent.begin();
+        String outcome = "loaded";
+        try {
+            Optional<T> cached = get(key, type);
+            if (cached.isPresent()) {
+                outcome = "hit";
+                return cached.get();
+            }
+
+            while (true) {
+                CompletableFuture<Object> load = new CompletableFuture<>();
+                CompletableFuture<Object> concurrentLoad = inFlight.putIfAbsent(key, load);
+                if (concurrentLoad == null) {
+                    outcome = "loaded";
+                    return runLoad(key, ttl, loader, load);
+                }
+
+                log.debug("Joining in-flight load of {}", key);
+                outcome = "joined";
+                try {
+                    return type.cast(join(concurrentLoad));
+                } catch (DeadlineExceededException e) {
+                    // A load failed on the deadline of its caller says nothing about the time left to this one
+                    if (!concurrentLoad.isCompletedExceptionally()) {
+                        throw e;
+                    }
+                    log.debug("In-flight load of {} exceeded the deadline of its caller, loading it again", key);
+                }
+            }
+        } finally {
+            lookupEvent.end();
+            if (lookupEvent.shouldCommit()) {
+                lookupEvent.key = key;
+                lookupEvent.outcome = outcome;
+                lookupEvent.commit();
+            }
+        }
+    }
+
+    private <T> T runLoad(String key, Duration ttl, Supplier<T> loader, CompletableFuture<Object> load) {
+        try {
+            T value = loader.get();
+            if (value != null) {
+                put(key, value, ttl);
+            }
+            load.complete(value);
+
+            return value;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    public void put(String key, Object value, Duration ttl) {
+        if (!configuration.enabled()) {
+            return;
+        }
+
+        nearCache.put(key, value);
+        try {
+            backend.put(key, objectMapper.writeValueAsString(value), ttl);
+            backend.publishInvalidation(instanceId + MESSAGE_SEPARATOR + key);
+        } catch (Exception e) {
+            log.warn("Unable to write {} to the shared cache: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Removes a value from both tiers, on every replica.
+     *
+     * @param key The cache key.
+     */
+    public void invalidate(String key) {
+        nearCache.invalidate(key);
+        notifyInvalidation(key);
+        try {
+            backend.delete(key);
+            backend.publishInvalidation(instanceId + MESSAGE_SEPARATOR + key);
+        } catch (Exception e) {
+            log.warn("Unable to invalidate {} in the shared cache: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Registers an action to run whenever a key is invalidated, here or by another replica,
+     * so that the values derived from it can be dropped too.
+     *
+     * @param listener The action, receiving the invalidated key.
+     */
+    public void addInvalidationListener(Consumer<String> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    public CacheStats nearCacheStats() {
+        return nearCache.stats();
+    }
+
+    /**
+     * @return The number of loads in progress, each possibly joined by several callers.
+     */
+    public int inFlightLoads() {
+        return inFlight.size();
+    }
+
+    private <T> Optional<T> readShared(String key, Class<T> type) {
+        try {
+            Optional<String> serialized = backend.get(key);
+            if (serialized.isPresent()) {
+                return Optional.ofNullable(objectMapper.readValue(serialized.get(), type));
+            }
+        } catch (IOException e) {
+            log.warn("Unable to deserialize {} from the shared cache: {}", key, e.getMessage());
+        } catch (Exception e) {
+            log.warn("Unable to read {} from the shared cache: {}", key, e.getMessage());
+        }
+
+        return Optional.empty();
+    }
+
+    private void onInvalidation(String message) {
+        int separatorIndex = message.indexOf(MESSAGE_SEPARATOR);
+        if (separatorIndex < 0) {
+            log.warn("Ignoring malformed invalidation message {}", message);
+            return;
+        }
+
+        String origin = message.substring(0, separatorIndex);
+        if (!instanceId.equals(origin)) {
+            final String key = message.substring(separatorIndex + 1);
+            nearCache.invalidate(key);
+            notifyInvalidation(key);
+        }
+    }
+
+    private void notifyInvalidation(String key) {
+        invalidationListeners.forEach(listener -> listener.accept(key));
+    }
+
+    /**
+     * Waits for the load of another caller, at most until the deadline of the current request.
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        final Optional<Deadline> oDeadline = DeadlineContext.current();
+        try {
+            return oDeadline.isPresent()
+                    ? future.get(oDeadline.get().remaining().toNanos(), TimeUnit.NANOSECONDS)
+                    : future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException(SERVICE_NAME);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeadlineExceededException(SERVICE_NAME);
+        }
+    }
+}
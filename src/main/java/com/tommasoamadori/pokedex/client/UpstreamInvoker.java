@@ -0,0 +1,166 @@
+package com.tommasoamadori.pokedex.client;
+
+import com.tommasoamadori.pokedex.constant.Upstream;
+import com.tommasoamadori.pokedex.deadline.Deadline;
+import com.tommasoamadori.pokedex.deadline.DeadlineContext;
+import com.tommasoamadori.pokedex.diagnostics.DiagnosticsRecorder;
+import com.tommasoamadori.pokedex.exception.DeadlineExceededException;
+import com.tommasoamadori.pokedex.resilience.Bulkhead;
+import com.tommasoamadori.pokedex.resilience.BulkheadRegistry;
+import com.tommasoamadori.pokedex.resilience.RetryBudget;
+import com.tommasoamadori.pokedex.resilience.RetryPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.core.propagation.PropagatedContext;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single entry point of every upstream call.
+ *
+ * <p>
+ * When the current request has a {@link Deadline}, the call is bounded by the remaining time
+ * and interrupted as soon as the deadline expires or the client disconnects.
+ * Transient failures are retried with exponential backoff and jitter, as long as the global
+ * {@link RetryBudget} and the deadline allow it. Every attempt holds a slot of the {@link Bulkhead} of its upstream.
+ * </p>
+ *
+ * <p>
+ * Bounded calls run on a dedicated executor per upstream, so calls piling up on a slow FunTranslations
+ * never delay the PokeAPI calls of plain lookups.
+ * </p>
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+public class UpstreamInvoker {
+
+    public static final String POKEAPI_EXECUTOR = "upstream-pokeapi";
+    public static final String FUNTRANSLATIONS_EXECUTOR = "upstream-funtranslations";
+
+    @Named(POKEAPI_EXECUTOR)
+    private final ExecutorService pokeApiExecutor;
+    @Named(FUNTRANSLATIONS_EXECUTOR)
+    private final ExecutorService funTranslationsExecutor;
+    private final RetryPolicy retryPolicy;
+    private final RetryBudget retryBudget;
+    private final MeterRegistry meterRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final DiagnosticsRecorder diagnosticsRecorder;
+
+    /**
+     * Invokes an upstream call within the current request deadline, if any, retrying transient failures.
+     *
+     * @param upstream The called upstream service.
+     * @param call     The call to perform, it must be safe to repeat.
+     * @return The result of the call.
+     * @throws DeadlineExceededException if the deadline expires or the request is cancelled before the call completes.
+     * @throws com.tommasoamadori.pokedex.exception.BulkheadFullException if the upstream has no free slot.
+     */
+    public <T> T invoke(Upstream upstream, Supplier<T> call) {
+        final Optional<Deadline> oDeadline = DeadlineContext.current();
+        final Supplier<T> isolatedCall = bulkheadRegistry.find(upstream)
+                .<Supplier<T>>map(bulkhead -> () -> bulkhead.execute(call))
+                .orElse(call);
+        retryBudget.deposit();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return timed(upstream, () -> oDeadline.isPresent() ? invokeWithin(oDeadline.get(), upstream, isolatedCall) : isolatedCall.get());
+            } catch (RuntimeException e) {
+                if (!retryPolicy.isRetryable(e)) {
+                    throw e;
+                }
+                if (attempt >= retryPolicy.maxAttempts()) {
+                    giveUp(upstream, "exhausted", e);
+                    throw e;
+                }
+
+                final Duration backoff = retryPolicy.backoff(attempt);
+                if (oDeadline.isPresent() && !oDeadline.get().hasAtLeast(backoff)) {
+                    giveUp(upstream, "deadline", e);
+                    throw e;
+                }
+                if (!retryBudget.tryWithdraw()) {
+                    giveUp(upstream, "budget", e);
+                    throw e;
+                }
+
+                meterRegistry.counter("pokedex.retry.attempts", "upstream", upstream.getCode()).increment();
+                log.warn("Retrying {} in {} ms after attempt {} failed: {}", upstream.getCode(), backoff.toMillis(), attempt, e.getMessage());
+                sleep(upstream, backoff);
+            }
+        }
+    }
+
+    private <T> T invokeWithin(Deadline deadline, Upstream upstream, Supplier<T> call) {
+        if (deadline.isExpired() || deadline.isCancelled()) {
+            log.warn("No time left to call {}", upstream.getCode());
+            throw new DeadlineExceededException(upstream.getCode());
+        }
+
+        // The propagated context carries the current span, so the HTTP client span stays in the request trace
+        final Callable<T> callable = call::get;
+        final Future<T> future = executorOf(upstream).submit(PropagatedContext.wrapCurrent(callable));
+        deadline.onCancel(() -> future.cancel(true));
+
+        try {
+            return future.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            future.cancel(true);
+            log.warn("Deadline exceeded while calling {}", upstream.getCode());
+            throw new DeadlineExceededException(upstream.getCode());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new DeadlineExceededException(upstream.getCode());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ExecutorService executorOf(Upstream upstream) {
+        return switch (upstream) {
+            case POKEAPI -> pokeApiExecutor;
+            case FUNTRANSLATIONS -> funTranslationsExecutor;
+        };
+    }
+
+    private <T> T timed(Upstream upstream, Supplier<T> attempt) {
+        final long start = System.nanoTime();
+        try {
+            return attempt.get();
+        } finally {
+            diagnosticsRecorder.recordUpstream(upstream, System.nanoTime() - start);
+        }
+    }
+
+    private void giveUp(Upstream upstream, String reason, RuntimeException failure) {
+        meterRegistry.counter("pokedex.retry.give-ups", "upstream", upstream.getCode(), "reason", reason).increment();
+        log.warn("Giving up on {} ({}): {}", upstream.getCode(), reason, failure.getMessage());
+    }
+
+    private static void sleep(Upstream upstream, Duration backoff) {
+        try {
+            Thread.sleep(backoff);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeadlineExceededException(upstream.getCode());
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.tommasoamadori.pokedex.client.api.pokeapi;
 
 import com.tommasoamadori.pokedex.dto.response.pokeapi.PokeApiResponse;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.PathVariable;
 import io.micronaut.http.client.annotation.Client;
 import jakarta.validation.constraints.NotBlank;
@@ -13,4 +16,8 @@ public interface PokeApiClient {
     @Get("api/v2/pokemon-species/{name}")
     HttpResponse<PokeApiResponse> getPokemonInfo(@PathVariable @NotBlank String name);
 
+    @Get("api/v2/pokemon-species/{name}")
+    HttpResponse<PokeApiResponse> getPokemonInfoIfChanged(@PathVariable @NotBlank String name,
+                                                          @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String etag);
+
 }
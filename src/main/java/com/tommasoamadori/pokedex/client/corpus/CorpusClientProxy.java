@@ -0,0 +1,147 @@
+package com.tommasoamadori.pokedex.client.corpus;
+
+import com.tommasoamadori.pokedex.constant.CorpusMode;
+import com.tommasoamadori.pokedex.constant.Upstream;
+import com.tommasoamadori.pokedex.exception.CorpusMissException;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.serde.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps a declarative client so that its exchanges are recorded into, or replayed from, the {@link ExchangeCorpus}.
+ *
+ * <p>
+ * Every client method returning an {@link HttpResponse} is keyed by its name and its JSON encoded arguments.
+ * On replay the recorded latency, scaled by {@link CorpusConfiguration#latencyScale()}, is waited before answering,
+ * so load tests see realistic timings; the wait is interrupted like a real call when the request deadline expires.
+ * </p>
+ */
+@Slf4j
+final class CorpusClientProxy implements InvocationHandler {
+
+    private final Upstream upstream;
+    private final Object delegate;
+    private final ExchangeCorpus corpus;
+    private final CorpusConfiguration configuration;
+    private final ObjectMapper objectMapper;
+
+    private CorpusClientProxy(Upstream upstream, Object delegate, ExchangeCorpus corpus,
+                              CorpusConfiguration configuration, ObjectMapper objectMapper) {
+        this.upstream = upstream;
+        this.delegate = delegate;
+        this.corpus = corpus;
+        this.configuration = configuration;
+        this.objectMapper = objectMapper;
+    }
+
+    static <T> T wrap(Class<T> clientType, Upstream upstream, T client, ExchangeCorpus corpus,
+                      CorpusConfiguration configuration, ObjectMapper objectMapper) {
+        log.info("{} {} exchanges", configuration.mode() == CorpusMode.REPLAY ? "Replaying" : "Recording", upstream.getCode());
+
+        return clientType.cast(Proxy.newProxyInstance(
+                clientType.getClassLoader(),
+                new Class<?>[]{clientType},
+                new CorpusClientProxy(upstream, client, corpus, configuration, objectMapper)
+        ));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class || !HttpResponse.class.isAssignableFrom(method.getReturnType())) {
+            return invokeDelegate(method, args);
+        }
+
+        final String key = method.getName() + objectMapper.writeValueAsString(args == null ? List.of() : Arrays.asList(args));
+
+        return configuration.mode() == CorpusMode.REPLAY
+                ? replay(method, key)
+                : record(method, args, key);
+    }
+
+    private Object record(Method method, Object[] args, String key) throws Throwable {
+        final long start = System.nanoTime();
+        try {
+            final HttpResponse<?> response = (HttpResponse<?>) invokeDelegate(method, args);
+            corpus.record(upstream, toExchange(key, response, false, start));
+
+            return response;
+        } catch (HttpClientResponseException e) {
+            corpus.record(upstream, toExchange(key, e.getResponse(), true, start));
+            throw e;
+        }
+    }
+
+    private Object replay(Method method, String key) throws IOException {
+        final RecordedExchange exchange = corpus.find(upstream, key)
+                .orElseThrow(() -> new CorpusMissException(upstream.getCode(), key));
+
+        waitRecordedLatency(exchange);
+
+        final MutableHttpResponse<Object> response = HttpResponse.status(HttpStatus.valueOf(exchange.status()));
+        exchange.headers().forEach(response::header);
+        if (exchange.body() != null) {
+            final Argument<?> bodyType = Argument.of(method.getGenericReturnType()).getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+            response.body(objectMapper.readValue(exchange.body(), bodyType));
+        }
+
+        if (exchange.failed()) {
+            throw new HttpClientResponseException("Replayed %s failure".formatted(upstream.getCode()), response);
+        }
+
+        return response;
+    }
+
+    private RecordedExchange toExchange(String key, HttpResponse<?> response, boolean failed, long start) {
+        final long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        final Map<String, String> headers = new LinkedHashMap<>();
+        response.getHeaders().forEach((name, values) -> headers.put(name, values.get(0)));
+
+        try {
+            final String body = failed || response.getBody().isEmpty()
+                    ? null
+                    : objectMapper.writeValueAsString(response.getBody().get());
+
+            return new RecordedExchange(key, response.code(), failed, headers, body, latencyMicros);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void waitRecordedLatency(RecordedExchange exchange) {
+        final long waitMicros = Math.round(exchange.latencyMicros() * configuration.latencyScale());
+        if (waitMicros <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.MICROSECONDS.sleep(waitMicros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Replay of %s interrupted".formatted(upstream.getCode()), e);
+        }
+    }
+
+    private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.tommasoamadori.pokedex.client.corpus;
+
+import com.tommasoamadori.pokedex.constant.CorpusMode;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+/**
+ * Configuration of the recording and replay of the upstream exchanges.
+ *
+ * @param mode         Whether the exchanges are recorded, replayed or neither.
+ * @param directory    Directory of the corpus, one compressed file per upstream.
+ * @param latencyScale Factor applied to the recorded latencies on replay, 0 answers immediately.
+ */
+@ConfigurationProperties(CorpusConfiguration.PREFIX)
+public record CorpusConfiguration(
+        @Bindable(defaultValue = "OFF") CorpusMode mode,
+        @Bindable(defaultValue = "corpus") String directory,
+        @Bindable(defaultValue = "1.0") double latencyScale
+) {
+    public static final String PREFIX = "pokedex.upstream.corpus";
+    public static final String MODE_PROPERTY = PREFIX + ".mode";
+}
@@ -0,0 +1,211 @@
+package com.tommasoamadori.pokedex.client.corpus;
+
+import com.tommasoamadori.pokedex.constant.CorpusMode;
+import com.tommasoamadori.pokedex.constant.Upstream;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.serde.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk corpus of upstream exchanges, stored as gzipped JSON lines, one file per upstream.
+ *
+ * <p>
+ * In record mode every exchange is appended to a plain JSON lines journal as soon as it is recorded, and nothing
+ * is kept in memory. The journal is compacted into the corpus on shutdown, the last exchange of a key winning,
+ * replacing the previous file atomically. A journal left by a run that did not shut down cleanly is compacted
+ * on the next startup, so successive recording runs add to the corpus and a crash loses no exchange.
+ * </p>
+ *
+ * <p>
+ * In replay mode the corpus, and a journal left behind if any, are loaded in memory at startup.
+ * </p>
+ */
+@Slf4j
+@Singleton
+@Requires(property = CorpusConfiguration.MODE_PROPERTY, pattern = "RECORD|REPLAY")
+public class ExchangeCorpus {
+
+    private static final String FILE_SUFFIX = ".jsonl.gz";
+    private static final String JOURNAL_SUFFIX = ".journal.jsonl";
+
+    private final CorpusConfiguration configuration;
+    private final ObjectMapper objectMapper;
+    private final Map<Upstream, Map<String, RecordedExchange>> exchanges = new EnumMap<>(Upstream.class);
+    private final Map<Upstream, BufferedWriter> journals = new EnumMap<>(Upstream.class);
+
+    public ExchangeCorpus(CorpusConfiguration configuration, ObjectMapper objectMapper) {
+        this.configuration = configuration;
+        this.objectMapper = objectMapper;
+        for (Upstream upstream : Upstream.values()) {
+            exchanges.put(upstream, new ConcurrentHashMap<>());
+        }
+    }
+
+    @PostConstruct
+    void load() {
+        for (Upstream upstream : Upstream.values()) {
+            if (configuration.mode() == CorpusMode.RECORD) {
+                compact(upstream);
+                openJournal(upstream);
+            } else {
+                exchanges.get(upstream).putAll(read(upstream));
+                log.info("Loaded {} recorded exchanges of {}", exchanges.get(upstream).size(), upstream.getCode());
+            }
+        }
+    }
+
+    public Optional<RecordedExchange> find(Upstream upstream, String key) {
+        return Optional.ofNullable(exchanges.get(upstream).get(key));
+    }
+
+    /**
+     * Appends an exchange to the journal of its upstream, flushed right away so that it survives a crash.
+     */
+    public void record(Upstream upstream, RecordedExchange exchange) {
+        final BufferedWriter journal = journals.get(upstream);
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            final String line = objectMapper.writeValueAsString(exchange);
+            synchronized (journal) {
+                journal.write(line);
+                journal.newLine();
+                journal.flush();
+            }
+        } catch (IOException e) {
+            log.error("Unable to record an exchange of {}: {}", upstream.getCode(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void save() {
+        if (configuration.mode() != CorpusMode.RECORD) {
+            return;
+        }
+
+        for (Upstream upstream : Upstream.values()) {
+            final BufferedWriter journal = journals.remove(upstream);
+            if (journal != null) {
+                try {
+                    synchronized (journal) {
+                        journal.close();
+                    }
+                } catch (IOException e) {
+                    log.error("Unable to close the journal of {}: {}", upstream.getCode(), e.getMessage());
+                }
+            }
+            compact(upstream);
+        }
+    }
+
+    private void openJournal(Upstream upstream) {
+        final Path journalFile = journalOf(upstream);
+        try {
+            Files.createDirectories(journalFile.getParent());
+            journals.put(upstream, Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        } catch (IOException e) {
+            log.error("Unable to open the journal of {}, its exchanges will not be recorded: {}", upstream.getCode(), e.getMessage());
+        }
+    }
+
+    /**
+     * Folds the journal into the corpus file, then deletes it. The journal is kept if the corpus cannot be written.
+     */
+    private void compact(Upstream upstream) {
+        final Path journalFile = journalOf(upstream);
+        if (!Files.exists(journalFile)) {
+            return;
+        }
+
+        final Path file = fileOf(upstream);
+        final Map<String, RecordedExchange> compacted = read(upstream);
+        try {
+            final Path temporaryFile = Files.createTempFile(file.getParent(), upstream.getCode(), FILE_SUFFIX);
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temporaryFile)), StandardCharsets.UTF_8))) {
+                for (RecordedExchange exchange : compacted.values()) {
+                    writer.write(objectMapper.writeValueAsString(exchange));
+                    writer.newLine();
+                }
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.delete(journalFile);
+            log.info("Saved {} recorded exchanges of {} to {}", compacted.size(), upstream.getCode(), file);
+        } catch (IOException e) {
+            log.error("Unable to save the recorded exchanges of {}: {}", upstream.getCode(), e.getMessage());
+        }
+    }
+
+    /**
+     * @return The exchanges of the corpus file followed by the ones of the journal, the last exchange of a key winning.
+     */
+    private Map<String, RecordedExchange> read(Upstream upstream) {
+        final Map<String, RecordedExchange> read = new LinkedHashMap<>();
+        final Path file = fileOf(upstream);
+        final Path journalFile = journalOf(upstream);
+
+        try {
+            if (Files.exists(file)) {
+                readLines(new GZIPInputStream(Files.newInputStream(file)), read);
+            }
+            if (Files.exists(journalFile)) {
+                readLines(Files.newInputStream(journalFile), read);
+            }
+        } catch (IOException e) {
+            log.warn("Unable to load the recorded exchanges of {}: {}", upstream.getCode(), e.getMessage());
+        }
+
+        return read;
+    }
+
+    private void readLines(InputStream inputStream, Map<String, RecordedExchange> read) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // A crash can leave the last line of a journal incomplete
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    final RecordedExchange exchange = objectMapper.readValue(line, RecordedExchange.class);
+                    read.put(exchange.key(), exchange);
+                } catch (IOException e) {
+                    log.warn("Skipping an unreadable recorded exchange: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Path fileOf(Upstream upstream) {
+        return Path.of(configuration.directory()).toAbsolutePath().resolve(upstream.getCode() + FILE_SUFFIX);
+    }
+
+    private Path journalOf(Upstream upstream) {
+        return Path.of(configuration.directory()).toAbsolutePath().resolve(upstream.getCode() + JOURNAL_SUFFIX);
+    }
+}
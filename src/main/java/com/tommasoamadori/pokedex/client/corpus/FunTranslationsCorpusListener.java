@@ -0,0 +1,28 @@
+package com.tommasoamadori.pokedex.client.corpus;
+
+import com.tommasoamadori.pokedex.client.api.funtranslations.FunTranslationsClient;
+import com.tommasoamadori.pokedex.constant.Upstream;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.serde.ObjectMapper;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Routes the {@link FunTranslationsClient} calls through the {@link ExchangeCorpus} when recording or replaying.
+ */
+@Singleton
+@RequiredArgsConstructor
+@Requires(property = CorpusConfiguration.MODE_PROPERTY, pattern = "RECORD|REPLAY")
+public class FunTranslationsCorpusListener implements BeanCreatedEventListener<FunTranslationsClient> {
+
+    private final ExchangeCorpus corpus;
+    private final CorpusConfiguration configuration;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public FunTranslationsClient onCreated(BeanCreatedEvent<FunTranslationsClient> event) {
+        return CorpusClientProxy.wrap(FunTranslationsClient.class, Upstream.FUNTRANSLATIONS, event.getBean(), corpus, configuration, objectMapper);
+    }
+}
@@ -0,0 +1,28 @@
+package com.tommasoamadori.pokedex.client.corpus;
+
+import com.tommasoamadori.pokedex.client.api.pokeapi.PokeApiClient;
+import com.tommasoamadori.pokedex.constant.Upstream;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.serde.ObjectMapper;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Routes the {@link PokeApiClient} calls through the {@link ExchangeCorpus} when recording or replaying.
+ */
+@Singleton
+@RequiredArgsConstructor
+@Requires(property = CorpusConfiguration.MODE_PROPERTY, pattern = "RECORD|REPLAY")
+public class PokeApiCorpusListener implements BeanCreatedEventListener<PokeApiClient> {
+
+    private final ExchangeCorpus corpus;
+    private final CorpusConfiguration configuration;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public PokeApiClient onCreated(BeanCreatedEvent<PokeApiClient> event) {
+        return CorpusClientProxy.wrap(PokeApiClient.class, Upstream.POKEAPI, event.getBean(), corpus, configuration, objectMapper);
+    }
+}
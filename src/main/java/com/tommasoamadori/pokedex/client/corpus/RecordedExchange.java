@@ -0,0 +1,26 @@
+package com.tommasoamadori.pokedex.client.corpus;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.Map;
+
+/**
+ * An upstream exchange as stored in the corpus.
+ *
+ * @param key           The client method and its arguments.
+ * @param status        The HTTP status of the response.
+ * @param failed        Whether the client raised the response as an error instead of returning it.
+ * @param headers       The response headers, first value only.
+ * @param body          The response body as JSON, {@code null} when empty.
+ * @param latencyMicros How long the exchange took when recorded.
+ */
+@Serdeable
+public record RecordedExchange(
+        String key,
+        int status,
+        boolean failed,
+        Map<String, String> headers,
+        @Nullable String body,
+        long latencyMicros
+) { }
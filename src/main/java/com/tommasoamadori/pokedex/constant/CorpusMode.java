@@ -0,0 +1,13 @@
+package com.tommasoamadori.pokedex.constant;
+
+/**
+ * How the upstream clients use the on-disk corpus of recorded exchanges.
+ */
+public enum CorpusMode {
+    /** The clients call the upstream services, nothing is recorded. */
+    OFF,
+    /** The clients call the upstream services and every exchange is added to the corpus. */
+    RECORD,
+    /** The clients answer from the corpus only, without any network access. */
+    REPLAY
+}
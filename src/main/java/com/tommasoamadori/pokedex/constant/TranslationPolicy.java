@@ -0,0 +1,13 @@
+package com.tommasoamadori.pokedex.constant;
+
+/**
+ * How the local and the remote translation engines are combined.
+ */
+public enum TranslationPolicy {
+    /** The local engine only, FunTranslations is never called. */
+    LOCAL_ONLY,
+    /** FunTranslations, the original description when it fails. */
+    REMOTE_ONLY,
+    /** FunTranslations, the local engine when it fails. */
+    REMOTE_WITH_LOCAL_FALLBACK
+}
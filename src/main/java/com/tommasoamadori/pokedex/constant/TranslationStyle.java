@@ -0,0 +1,13 @@
+package com.tommasoamadori.pokedex.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TranslationStyle {
+    YODA("yoda"),
+    SHAKESPEARE("shakespeare");
+
+    private final String code;
+}
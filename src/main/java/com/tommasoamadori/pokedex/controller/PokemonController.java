@@ -1,27 +1,52 @@
 package com.tommasoamadori.pokedex.controller;
 
+import com.tommasoamadori.pokedex.cache.ResponseBytesCache;
+import com.tommasoamadori.pokedex.constant.Language;
+import com.tommasoamadori.pokedex.diagnostics.DiagnosticsRecorder;
+import com.tommasoamadori.pokedex.dto.request.TeamRequest;
 import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.dto.response.TeamSummaryResponse;
+import com.tommasoamadori.pokedex.exception.BulkheadFullException;
+import com.tommasoamadori.pokedex.exception.DeadlineExceededException;
 import com.tommasoamadori.pokedex.exception.PokemonNotFoundException;
+import com.tommasoamadori.pokedex.exception.RateLimitExceededException;
+import com.tommasoamadori.pokedex.ratelimit.RateLimitFilter;
 import com.tommasoamadori.pokedex.service.PokemonBaseService;
+import com.tommasoamadori.pokedex.service.PokemonNameResolver;
+import com.tommasoamadori.pokedex.service.TranslatedPokemonInfo;
+import com.tommasoamadori.pokedex.tracing.SpanTracer;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Error;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.PathVariable;
+import io.micronaut.http.annotation.Post;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+import java.util.function.Function;
+
 /**
  * Controller for managing Pokémon information requests.
  */
@@ -32,12 +57,25 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PokemonController {
 
+    // Plain lookups never need FunTranslations, so they run isolated from the translated ones
+    public static final String INFO_EXECUTOR = "pokemon-info";
+    public static final String TRANSLATED_EXECUTOR = "pokemon-translated";
+    private static final String TRANSLATED_ROUTE = "translated";
+
+    private static final String GZIP = "gzip";
+
     private final PokemonBaseService pokemonService;
+    private final PokemonNameResolver nameResolver;
+    private final ResponseBytesCache responseBytesCache;
+    private final SpanTracer spanTracer;
+    private final DiagnosticsRecorder diagnosticsRecorder;
+    private final RateLimitFilter rateLimitFilter;
 
     /**
      * Get information about a specific Pokémon by name.
      *
      * @param name The name of the Pokémon.
+     * @param acceptEncoding The encodings accepted by the client.
      * @return The Pokémon information.
      */
     @Operation(
@@ -46,21 +84,27 @@ public class PokemonController {
     )
     @ApiResponse(responseCode = "200", description = "Successfully retrieved Pokémon information", content = @Content(schema = @Schema(implementation = PokemonInfoResponse.class)))
     @ApiResponse(responseCode = "404", description = "Pokémon not found")
+    @ApiResponse(responseCode = "503", description = "Service overloaded")
+    @ApiResponse(responseCode = "504", description = "Request deadline exceeded")
+    @ExecuteOn(INFO_EXECUTOR)
     @Get(value = "{name}", produces = MediaType.APPLICATION_JSON)
-    public PokemonInfoResponse pokemon(
+    public HttpResponse<?> pokemon(
             @Parameter(description = "Pokémon name")
-            @PathVariable @NotBlank String name) {
+            @PathVariable @NotBlank String name,
+            @Parameter(hidden = true)
+            @Header(HttpHeaders.ACCEPT_ENCODING) @Nullable String acceptEncoding) {
         log.info("Incoming info request for {}", name);
-        PokemonInfoResponse pokemonInfo = pokemonService.getPokemonInfo(name);
-        log.info("{} info: {}", name, pokemonInfo);
 
-        return pokemonInfo;
+        return spanTracer.inSpan("PokemonController.pokemon", "pokemon.name", name,
+                () -> respond("info", name, acceptEncoding, pokemonService::getPokemonInfo,
+                        species -> new ResponseBytesCache.Loaded(pokemonService.getPokemonInfo(species), true)));
     }
 
     /**
      * Get information about a specific Pokémon by name with fun translated description.
      *
      * @param name The name of the Pokémon.
+     * @param acceptEncoding The encodings accepted by the client.
      * @return The Pokémon information with fun translated description.
      */
     @Operation(
@@ -69,15 +113,154 @@ public class PokemonController {
     )
     @ApiResponse(responseCode = "200", description = "Successfully retrieved Pokémon information with translated description", content = @Content(schema = @Schema(implementation = PokemonInfoResponse.class)))
     @ApiResponse(responseCode = "404", description = "Pokémon not found")
+    @ApiResponse(responseCode = "503", description = "Service overloaded")
+    @ApiResponse(responseCode = "504", description = "Request deadline exceeded")
+    @ExecuteOn(TRANSLATED_EXECUTOR)
     @Get(value = "translated/{name}", produces = MediaType.APPLICATION_JSON)
-    public PokemonInfoResponse translatedPokemon(
+    public HttpResponse<?> translatedPokemon(
             @Parameter(description = "Pokémon name")
-            @PathVariable @NotBlank String name) {
+            @PathVariable @NotBlank String name,
+            @Parameter(hidden = true)
+            @Header(HttpHeaders.ACCEPT_ENCODING) @Nullable String acceptEncoding) {
         log.info("Incoming translated info request for {}", name);
-        PokemonInfoResponse translatedPokemonInfo = pokemonService.getTranslatedPokemonInfo(name);
-        log.info("{} translated info: {}", name, translatedPokemonInfo);
 
-        return translatedPokemonInfo;
+        return spanTracer.inSpan("PokemonController.translatedPokemon", "pokemon.name", name,
+                () -> respond("translated info", name, acceptEncoding, pokemonService::getTranslatedPokemonInfo,
+                        species -> {
+                            // A description that fell back is served, but not cached in place of the translation
+                            final TranslatedPokemonInfo translated = pokemonService.getTranslatedPokemonInfoWithOutcome(species);
+                            return new ResponseBytesCache.Loaded(translated.info(), !translated.fallback());
+                        }));
+    }
+
+    /**
+     * Get information about a team of Pokémon, with facts aggregated over the whole team.
+     *
+     * @param request The team members and whether to translate their descriptions.
+     * @return The members found, the names not found and the team summary.
+     */
+    @Operation(
+            summary = "Get information about a team of Pokémon",
+            description = "Fetches the members of a team concurrently, in one round trip, and summarizes legendary members and habitats"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the team summary", content = @Content(schema = @Schema(implementation = TeamSummaryResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Empty team or more than " + TeamRequest.MAX_MEMBERS + " members")
+    @ApiResponse(responseCode = "429", description = "Rate limit of the translated lookups exceeded by a translated team")
+    @ApiResponse(responseCode = "503", description = "Service overloaded")
+    @ApiResponse(responseCode = "504", description = "Request deadline exceeded")
+    // Only waits on the members, which are looked up and translated on the team executor
+    @ExecuteOn(INFO_EXECUTOR)
+    @Post(value = "team", produces = MediaType.APPLICATION_JSON)
+    public TeamSummaryResponse team(HttpRequest<?> httpRequest, @Body @Valid TeamRequest request) {
+        log.info("Incoming team request for {}", request.names());
+
+        if (request.translated()) {
+            // The team route is charged once by the filter, each translated member costs a translated lookup on top
+            rateLimitFilter.charge(httpRequest, TRANSLATED_ROUTE, distinctCount(request.names()));
+        }
+
+        final long start = System.nanoTime();
+        try {
+            return spanTracer.inSpan("PokemonController.team", "pokemon.team.size", Integer.toString(request.names().size()),
+                    () -> pokemonService.getTeamSummary(request.names(), request.translated()));
+        } finally {
+            diagnosticsRecorder.recordEndpoint("team", System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Writes the Pokémon information, straight from the pre-serialized bytes when the response cache is enabled.
+     */
+    private HttpResponse<?> respond(String endpoint, String name, @Nullable String acceptEncoding,
+                                    Function<String, PokemonInfoResponse> retrieval,
+                                    Function<String, ResponseBytesCache.Loaded> cachedRetrieval) {
+        final long start = System.nanoTime();
+        try {
+            final String species = nameResolver.resolve(name);
+            diagnosticsRecorder.recordSpecies(species);
+
+            return respondWith(endpoint, name, species, acceptEncoding, retrieval, cachedRetrieval);
+        } finally {
+            diagnosticsRecorder.recordEndpoint(endpoint, System.nanoTime() - start);
+        }
+    }
+
+    private HttpResponse<?> respondWith(String endpoint, String name, String species, @Nullable String acceptEncoding,
+                                        Function<String, PokemonInfoResponse> retrieval,
+                                        Function<String, ResponseBytesCache.Loaded> cachedRetrieval) {
+        if (!responseBytesCache.isEnabled()) {
+            PokemonInfoResponse pokemonInfo = retrieval.apply(name);
+            log.info("{} {}: {}", name, endpoint, pokemonInfo);
+
+            return HttpResponse.ok(pokemonInfo);
+        }
+
+        final ResponseBytesCache.Body body = responseBytesCache.getOrLoad(
+                new ResponseBytesCache.Key(endpoint, species, Language.EN.getCode()),
+                () -> cachedRetrieval.apply(species)
+        );
+        log.info("{} {} served from pre-serialized body", name, endpoint);
+
+        final boolean useGzip = body.gzip() != null && acceptsGzip(acceptEncoding);
+        final byte[] bytes = useGzip ? body.gzip() : body.json();
+
+        // The pooled buffer is released by Netty once written
+        final ByteBuf buffer = ByteBufAllocator.DEFAULT.buffer(bytes.length).writeBytes(bytes);
+        final MutableHttpResponse<ByteBuf> response = HttpResponse.ok(buffer)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        return useGzip ? response.header(HttpHeaders.CONTENT_ENCODING, GZIP) : response;
+    }
+
+    /**
+     * @return The distinct species of the names, as the team members are retrieved, a rejected name counting once as written.
+     */
+    private long distinctCount(List<String> names) {
+        return names.stream()
+                .map(name -> {
+                    try {
+                        return nameResolver.resolve(name);
+                    } catch (PokemonNotFoundException e) {
+                        return name;
+                    }
+                })
+                .distinct()
+                .count();
+    }
+
+    /**
+     * @return Whether the Accept-Encoding header lists gzip with a non-zero quality value.
+     */
+    static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return qualityOf(parts) > 0;
+            }
+        }
+
+        return false;
+    }
+
+    private static double qualityOf(String[] encodingParts) {
+        for (int i = 1; i < encodingParts.length; i++) {
+            final String[] parameter = encodingParts[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException e) {
+                    // An invalid quality value is not an acceptable one
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
     }
 
     @Error(exception = PokemonNotFoundException.class)
@@ -85,4 +268,21 @@ public class PokemonController {
         return HttpResponse.status(HttpStatus.NOT_FOUND).body(e.getMessage());
     }
 
+    @Error(exception = BulkheadFullException.class)
+    public HttpResponse<String> handleBulkheadFull(BulkheadFullException e) {
+        return HttpResponse.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+
+    @Error(exception = RateLimitExceededException.class)
+    public HttpResponse<String> handleRateLimitExceeded(RateLimitExceededException e) {
+        return HttpResponse.<String>status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, RateLimitFilter.retryAfter(e.getWaitNanos()))
+                .body(e.getMessage());
+    }
+
+    @Error(exception = DeadlineExceededException.class)
+    public HttpResponse<String> handleDeadlineExceeded(DeadlineExceededException e) {
+        return HttpResponse.status(HttpStatus.GATEWAY_TIMEOUT).body(e.getMessage());
+    }
+
 }
@@ -0,0 +1,146 @@
+package com.tommasoamadori.pokedex.controller;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonQueryResponse;
+import com.tommasoamadori.pokedex.dto.response.PokemonSearchResponse;
+import com.tommasoamadori.pokedex.exception.InvalidCursorException;
+import com.tommasoamadori.pokedex.index.SpeciesIndex;
+import com.tommasoamadori.pokedex.index.SpeciesQuery;
+import com.tommasoamadori.pokedex.index.SpeciesQueryResult;
+import com.tommasoamadori.pokedex.index.SpeciesSearchIndex;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Error;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Controller for attribute queries and searches over the Pokémon known to the service.
+ * Both are answered from local indexes, without any upstream call. Queries read an immutable index
+ * and run on the event loop, while searches may wait on the lock of the search index while it catches up
+ * with the snapshot, so they run on the plain lookups executor.
+ */
+@Slf4j
+@Controller("pokemon")
+@RequiredArgsConstructor
+public class PokemonQueryController {
+
+    private static final String CURSOR_PREFIX = "dex:";
+
+    private final SpeciesIndex speciesIndex;
+    private final SpeciesSearchIndex speciesSearchIndex;
+
+    /**
+     * Query the known Pokémon by habitat, legendary status and national dex range.
+     *
+     * @param habitat   The habitat of the Pokémon.
+     * @param legendary The legendary status of the Pokémon.
+     * @param from      The lowest national dex number.
+     * @param to        The highest national dex number.
+     * @param cursor    The cursor returned by the previous page.
+     * @param limit     The maximum number of Pokémon returned.
+     * @return A page of matching Pokémon.
+     */
+    @Operation(
+            summary = "Query Pokémon by habitat, legendary status and national dex range",
+            description = "Scans the local index of the Pokémon retrieved so far, results are paginated with an opaque cursor. "
+                    + "The response reports how many Pokémon are indexed, since the others are never matched"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully queried Pokémon", content = @Content(schema = @Schema(implementation = PokemonQueryResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid query")
+    @Get(produces = MediaType.APPLICATION_JSON)
+    public PokemonQueryResponse query(
+            @Parameter(description = "Habitat") @QueryValue @Nullable String habitat,
+            @Parameter(description = "Legendary status") @QueryValue @Nullable Boolean legendary,
+            @Parameter(description = "Lowest national dex number") @QueryValue(defaultValue = "1") @Min(1) int from,
+            @Parameter(description = "Highest national dex number") @QueryValue @Nullable @Min(1) Integer to,
+            @Parameter(description = "Cursor of the next page") @QueryValue @Nullable String cursor,
+            @Parameter(description = "Page size") @QueryValue(defaultValue = "50") @Min(1) @Max(500) int limit) {
+        log.info("Incoming query request habitat={} legendary={} from={} to={}", habitat, legendary, from, to);
+
+        final SpeciesQueryResult result = speciesIndex.query(
+                new SpeciesQuery(habitat, legendary, from, to != null ? to : Integer.MAX_VALUE, decodeCursor(cursor), limit)
+        );
+        log.info("Query matched {} Pokémon", result.results().size());
+
+        return new PokemonQueryResponse(
+                result.results(),
+                result.lastDexNumber() != null ? encodeCursor(result.lastDexNumber()) : null,
+                result.indexedSpecies()
+        );
+    }
+
+    /**
+     * Search the known Pokémon by name or description, tolerating typos and partial names.
+     *
+     * @param q     The text to search.
+     * @param limit The maximum number of Pokémon returned.
+     * @return The matching Pokémon, best match first.
+     */
+    @Operation(
+            summary = "Search Pokémon by name or description",
+            description = "Matches names and descriptions of the Pokémon retrieved so far by exact term, prefix and small typos. "
+                    + "The response reports how many Pokémon are indexed, since the others are never matched"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully searched Pokémon", content = @Content(schema = @Schema(implementation = PokemonSearchResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid search")
+    @ExecuteOn(PokemonController.INFO_EXECUTOR)
+    @Get(value = "search", produces = MediaType.APPLICATION_JSON)
+    public PokemonSearchResponse search(
+            @Parameter(description = "Text to search") @QueryValue @NotBlank @Size(max = 64) String q,
+            @Parameter(description = "Maximum number of results") @QueryValue(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        log.info("Incoming search request for {}", q);
+
+        return new PokemonSearchResponse(speciesSearchIndex.search(q, limit), speciesSearchIndex.indexedSpecies());
+    }
+
+    private static String encodeCursor(int dexNumber) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + dexNumber).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeCursor(@Nullable String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidCursorException(cursor);
+            }
+
+            final int dexNumber = Integer.parseInt(decoded.substring(CURSOR_PREFIX.length()));
+            if (dexNumber < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+
+            return dexNumber;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    @Error(exception = InvalidCursorException.class)
+    public HttpResponse<String> handleInvalidCursor(InvalidCursorException e) {
+        return HttpResponse.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.tommasoamadori.pokedex.deadline;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Point in time by which a request must be answered, plus a cancellation signal
+ * raised when the client goes away before that.
+ */
+public final class Deadline {
+
+    private final long deadlineNanos;
+    private final CompletableFuture<Void> cancellation = new CompletableFuture<>();
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean hasAtLeast(Duration budget) {
+        return !isCancelled() && remaining().compareTo(budget) >= 0;
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    public boolean isCancelled() {
+        return cancellation.isDone();
+    }
+
+    public void cancel() {
+        cancellation.complete(null);
+    }
+
+    /**
+     * Registers an action to run when the request is cancelled.
+     * The action runs immediately if the request is already cancelled.
+     *
+     * @param action The cancellation action.
+     */
+    public void onCancel(Runnable action) {
+        cancellation.thenRun(action);
+    }
+}
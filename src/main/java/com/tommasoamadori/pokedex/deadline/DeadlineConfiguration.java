@@ -0,0 +1,24 @@
+package com.tommasoamadori.pokedex.deadline;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the request deadlines.
+ *
+ * @param header               Request header carrying the client timeout, in milliseconds.
+ * @param defaultTimeout       Deadline of the requests not carrying the header.
+ * @param translatedTimeout    Deadline of the translated requests not carrying the header.
+ * @param maxTimeout           Upper bound of the timeout accepted from the header.
+ * @param minTranslationBudget Minimum remaining time needed to attempt a translation.
+ */
+@ConfigurationProperties("pokedex.deadline")
+public record DeadlineConfiguration(
+        @Bindable(defaultValue = "X-Request-Timeout") String header,
+        @Bindable(defaultValue = "5s") Duration defaultTimeout,
+        @Bindable(defaultValue = "10s") Duration translatedTimeout,
+        @Bindable(defaultValue = "30s") Duration maxTimeout,
+        @Bindable(defaultValue = "500ms") Duration minTranslationBudget
+) { }
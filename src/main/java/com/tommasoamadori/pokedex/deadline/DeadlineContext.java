@@ -0,0 +1,20 @@
+package com.tommasoamadori.pokedex.deadline;
+
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.core.propagation.PropagatedContextElement;
+
+import java.util.Optional;
+
+/**
+ * Carries the request {@link Deadline} across threads through the Micronaut propagated context.
+ *
+ * @param deadline The request deadline.
+ */
+public record DeadlineContext(Deadline deadline) implements PropagatedContextElement {
+
+    public static Optional<Deadline> current() {
+        return PropagatedContext.getOrEmpty()
+                .find(DeadlineContext.class)
+                .map(DeadlineContext::deadline);
+    }
+}
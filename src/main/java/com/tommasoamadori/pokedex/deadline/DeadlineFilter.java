@@ -0,0 +1,64 @@
+package com.tommasoamadori.pokedex.deadline;
+
+import io.micronaut.core.propagation.MutablePropagatedContext;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import io.micronaut.http.server.netty.NettyHttpRequest;
+import io.netty.channel.ChannelFutureListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Sets the deadline of every Pokémon request, from the timeout header or from the endpoint configuration,
+ * and cancels it when the client disconnects.
+ */
+@Slf4j
+@ServerFilter("/pokemon/**")
+@RequiredArgsConstructor
+public class DeadlineFilter {
+
+    private static final String TRANSLATED_PATH = "/pokemon/translated/";
+    private static final String CLOSE_LISTENER_ATTRIBUTE = "pokedex.deadline.close-listener";
+
+    private final DeadlineConfiguration configuration;
+
+    @RequestFilter
+    public void setDeadline(HttpRequest<?> request, MutablePropagatedContext propagatedContext) {
+        final Duration timeout = requestedTimeout(request).orElseGet(() ->
+                request.getPath().startsWith(TRANSLATED_PATH)
+                        ? configuration.translatedTimeout()
+                        : configuration.defaultTimeout());
+        final Deadline deadline = Deadline.after(timeout);
+
+        propagatedContext.add(new DeadlineContext(deadline));
+
+        if (request instanceof NettyHttpRequest<?> nettyRequest) {
+            ChannelFutureListener closeListener = future -> {
+                log.info("Client disconnected, cancelling {}", request.getPath());
+                deadline.cancel();
+            };
+            nettyRequest.getChannelHandlerContext().channel().closeFuture().addListener(closeListener);
+            request.setAttribute(CLOSE_LISTENER_ATTRIBUTE, closeListener);
+        }
+    }
+
+    @ResponseFilter
+    public void removeCloseListener(HttpRequest<?> request) {
+        if (request instanceof NettyHttpRequest<?> nettyRequest) {
+            request.getAttribute(CLOSE_LISTENER_ATTRIBUTE, ChannelFutureListener.class).ifPresent(closeListener ->
+                    nettyRequest.getChannelHandlerContext().channel().closeFuture().removeListener(closeListener));
+        }
+    }
+
+    private Optional<Duration> requestedTimeout(HttpRequest<?> request) {
+        return request.getHeaders().get(configuration.header(), Long.class)
+                .filter(millis -> millis > 0)
+                .map(Duration::ofMillis)
+                .map(timeout -> timeout.compareTo(configuration.maxTimeout()) > 0 ? configuration.maxTimeout() : timeout);
+    }
+}
@@ -0,0 +1,16 @@
+package com.tommasoamadori.pokedex.diagnostics;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+/**
+ * Configuration of the live diagnostics.
+ *
+ * @param hotKeys        Number of most requested species reported.
+ * @param sketchCapacity Species tracked by each heavy-hitters sketch; more capacity, more accurate counts.
+ */
+@ConfigurationProperties("pokedex.diagnostics")
+public record DiagnosticsConfiguration(
+        @Bindable(defaultValue = "20") int hotKeys,
+        @Bindable(defaultValue = "256") int sketchCapacity
+) { }
@@ -0,0 +1,64 @@
+package com.tommasoamadori.pokedex.diagnostics;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.tommasoamadori.pokedex.cache.NegativeCache;
+import com.tommasoamadori.pokedex.cache.ResponseBytesCache;
+import com.tommasoamadori.pokedex.cache.TwoTierCache;
+import com.tommasoamadori.pokedex.translation.TranslationRouter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Management endpoint reporting hot species, latencies, cache hit ratios and executor backlogs,
+ * to find what to prewarm and where the time goes without attaching a profiler.
+ * It is sensitive by default, since it exposes the traffic of the service.
+ */
+@Endpoint(id = "diagnostics")
+@RequiredArgsConstructor
+public class DiagnosticsEndpoint {
+
+    private static final String EXECUTOR_QUEUED = "executor.queued";
+
+    private final DiagnosticsRecorder recorder;
+    private final TwoTierCache twoTierCache;
+    private final NegativeCache negativeCache;
+    private final ResponseBytesCache responseBytesCache;
+    private final MeterRegistry meterRegistry;
+    private final TranslationRouter translationRouter;
+
+    @Read
+    public DiagnosticsReport report() {
+        final Map<String, DiagnosticsReport.CacheSnapshot> caches = new TreeMap<>();
+        caches.put("near", toSnapshot(twoTierCache.nearCacheStats()));
+        caches.put("negative", toSnapshot(negativeCache.stats()));
+        caches.put("response", toSnapshot(responseBytesCache.stats()));
+
+        final Map<String, Double> executorQueues = new TreeMap<>();
+        for (Gauge gauge : meterRegistry.find(EXECUTOR_QUEUED).gauges()) {
+            final String executorName = gauge.getId().getTag("name");
+            if (executorName != null) {
+                executorQueues.put(executorName, gauge.value());
+            }
+        }
+
+        return new DiagnosticsReport(
+                recorder.hotSpecies(),
+                recorder.endpointLatencies(),
+                recorder.upstreamLatencies(),
+                caches,
+                twoTierCache.inFlightLoads(),
+                executorQueues,
+                translationRouter.hits()
+        );
+    }
+
+    private static DiagnosticsReport.CacheSnapshot toSnapshot(CacheStats stats) {
+        return new DiagnosticsReport.CacheSnapshot(stats.hitCount(), stats.missCount(), stats.hitRate());
+    }
+}
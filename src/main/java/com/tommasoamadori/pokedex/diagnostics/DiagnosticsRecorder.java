@@ -0,0 +1,49 @@
+package com.tommasoamadori.pokedex.diagnostics;
+
+import com.tommasoamadori.pokedex.constant.Upstream;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the request-path samples reported by the diagnostics endpoint.
+ * Recording never blocks the request threads.
+ */
+@Singleton
+public class DiagnosticsRecorder {
+
+    private final DiagnosticsConfiguration configuration;
+    private final HeavyHitters hotSpecies;
+    private final LatencyRecorder endpointLatencies = new LatencyRecorder();
+    private final LatencyRecorder upstreamLatencies = new LatencyRecorder();
+
+    public DiagnosticsRecorder(DiagnosticsConfiguration configuration) {
+        this.configuration = configuration;
+        this.hotSpecies = new HeavyHitters(configuration.sketchCapacity());
+    }
+
+    public void recordSpecies(String species) {
+        hotSpecies.record(species);
+    }
+
+    public void recordEndpoint(String endpoint, long nanos) {
+        endpointLatencies.record(endpoint, nanos);
+    }
+
+    public void recordUpstream(Upstream upstream, long nanos) {
+        upstreamLatencies.record(upstream.getCode(), nanos);
+    }
+
+    List<DiagnosticsReport.HotKey> hotSpecies() {
+        return hotSpecies.top(configuration.hotKeys());
+    }
+
+    Map<String, DiagnosticsReport.LatencySnapshot> endpointLatencies() {
+        return endpointLatencies.snapshot();
+    }
+
+    Map<String, DiagnosticsReport.LatencySnapshot> upstreamLatencies() {
+        return upstreamLatencies.snapshot();
+    }
+}
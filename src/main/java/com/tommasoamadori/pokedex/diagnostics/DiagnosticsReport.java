@@ -0,0 +1,44 @@
+package com.tommasoamadori.pokedex.diagnostics;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live diagnostics of the service.
+ *
+ * @param hotSpecies        The most requested species, most requested first, by approximate count.
+ * @param endpointLatencies Latency of the Pokémon endpoints, since startup.
+ * @param upstreamLatencies Latency of every upstream call attempt, since startup.
+ * @param caches            Hit ratio of the local caches.
+ * @param inFlightLoads     Cache loads in progress, each possibly shared by several requests.
+ * @param executorQueues    Tasks waiting in the queue of each executor.
+ * @param translationRules  Species routed by each translation rule, since startup.
+ */
+@Serdeable
+public record DiagnosticsReport(
+        List<HotKey> hotSpecies,
+        Map<String, LatencySnapshot> endpointLatencies,
+        Map<String, LatencySnapshot> upstreamLatencies,
+        Map<String, CacheSnapshot> caches,
+        int inFlightLoads,
+        Map<String, Double> executorQueues,
+        Map<String, Long> translationRules
+) {
+
+    /**
+     * @param key   The species.
+     * @param count Estimated number of requests: samples dropped under contention or evicted from the sketch
+     *              are missing, so it can be lower than the true number as well as higher.
+     * @param error Maximum overestimation of the count due to the sketch evictions.
+     */
+    @Serdeable
+    public record HotKey(String key, long count, long error) { }
+
+    @Serdeable
+    public record LatencySnapshot(long count, double p50Millis, double p90Millis, double p99Millis, double maxMillis) { }
+
+    @Serdeable
+    public record CacheSnapshot(long hits, long misses, double hitRatio) { }
+}
@@ -0,0 +1,117 @@
+package com.tommasoamadori.pokedex.diagnostics;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Approximate top-K of the most frequent keys, with the Space-Saving algorithm.
+ *
+ * <p>
+ * Each of the striped sketches keeps at most {@code capacity} counters: an untracked key takes over the smallest
+ * counter, inheriting its count as overestimation error. The counts of the stripes are summed when read.
+ * </p>
+ *
+ * <p>
+ * Writers never wait: a writer that finds its stripe busy drops the sample. Under contention the counts are therefore
+ * sampled, and the hottest keys, recorded most often, lose the most samples. The count of a key evicted from a stripe
+ * is lost too. The result ranks the hot keys, it does not bound their true counts from below.
+ * </p>
+ */
+class HeavyHitters {
+
+    private final Stripe[] stripes;
+
+    HeavyHitters(int capacity) {
+        this(capacity, Runtime.getRuntime().availableProcessors());
+    }
+
+    HeavyHitters(int capacity, int stripes) {
+        final int stripeCount = Integer.highestOneBit(Math.max(1, stripes));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    void record(String key) {
+        final Stripe stripe = stripes[(int) (Thread.currentThread().threadId() & (stripes.length - 1))];
+        if (stripe.lock.tryLock()) {
+            try {
+                stripe.offer(key);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @param k Number of keys returned.
+     * @return The {@code k} most frequent keys, most frequent first.
+     */
+    List<DiagnosticsReport.HotKey> top(int k) {
+        final Map<String, long[]> merged = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.counters.forEach((key, counter) -> {
+                    final long[] total = merged.computeIfAbsent(key, ignored -> new long[2]);
+                    total[0] += counter.count;
+                    total[1] += counter.error;
+                });
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        return merged.entrySet().stream()
+                .sorted((first, second) -> Long.compare(second.getValue()[0], first.getValue()[0]))
+                .limit(k)
+                .map(entry -> new DiagnosticsReport.HotKey(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .toList();
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Counter> counters = new HashMap<>();
+        private final int capacity;
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void offer(String key) {
+            final Counter counter = counters.get(key);
+            if (counter != null) {
+                counter.count++;
+                return;
+            }
+            if (counters.size() < capacity) {
+                counters.put(key, new Counter(1, 0));
+                return;
+            }
+
+            Map.Entry<String, Counter> smallest = null;
+            for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+                if (smallest == null || entry.getValue().count < smallest.getValue().count) {
+                    smallest = entry;
+                }
+            }
+            counters.remove(smallest.getKey());
+            counters.put(key, new Counter(smallest.getValue().count + 1, smallest.getValue().count));
+        }
+    }
+
+    private static final class Counter {
+
+        private long count;
+        private final long error;
+
+        private Counter(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
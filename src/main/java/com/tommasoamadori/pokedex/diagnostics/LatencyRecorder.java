@@ -0,0 +1,52 @@
+package com.tommasoamadori.pokedex.diagnostics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histograms by name, recorded with wait-free HdrHistogram {@link Recorder}s.
+ * Readers fold the samples recorded since the previous read into a cumulative histogram.
+ */
+class LatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    void record(String name, long nanos) {
+        entries.computeIfAbsent(name, ignored -> new Entry()).recorder.recordValue(Math.max(0, nanos));
+    }
+
+    Map<String, DiagnosticsReport.LatencySnapshot> snapshot() {
+        final Map<String, DiagnosticsReport.LatencySnapshot> snapshots = new TreeMap<>();
+        entries.forEach((name, entry) -> snapshots.put(name, entry.snapshot()));
+
+        return snapshots;
+    }
+
+    private static final class Entry {
+
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        private Histogram interval;
+
+        private synchronized DiagnosticsReport.LatencySnapshot snapshot() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+
+            return new DiagnosticsReport.LatencySnapshot(
+                    total.getTotalCount(),
+                    total.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    total.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                    total.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    total.getMaxValue() / NANOS_PER_MILLI
+            );
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.tommasoamadori.pokedex.dto.request;
+
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * A team of Pokémon to summarize.
+ *
+ * @param names      Names or national dex numbers of the members; duplicates are looked up once.
+ * @param translated Whether the translated description of every member is included as well.
+ */
+@Serdeable
+public record TeamRequest(
+        @NotEmpty @Size(max = TeamRequest.MAX_MEMBERS) List<@NotBlank String> names,
+        boolean translated
+) {
+    public static final int MAX_MEMBERS = 6;
+}
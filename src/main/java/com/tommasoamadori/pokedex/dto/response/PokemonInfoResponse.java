@@ -2,15 +2,17 @@ package com.tommasoamadori.pokedex.dto.response;
 
 import io.micronaut.serde.annotation.Serdeable;
 import lombok.Builder;
-import lombok.Data;
+import lombok.With;
 
-@Data
+/**
+ * Immutable Pokémon information, safe to share between concurrent requests and caches.
+ * The translated variant is derived with {@link #withDescription(String)} and shares every other field.
+ */
 @Builder
 @Serdeable
-public class PokemonInfoResponse {
-    private String name;
-    private String description;
-    private String habitat;
-    private Boolean isLegendary;
-}
-
+public record PokemonInfoResponse(
+        String name,
+        @With String description,
+        String habitat,
+        Boolean isLegendary
+) { }
@@ -0,0 +1,16 @@
+package com.tommasoamadori.pokedex.dto.response;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+/**
+ * A page of Pokémon matching a query.
+ *
+ * @param results    The matching Pokémon, ordered by national dex number.
+ * @param nextCursor Opaque cursor of the next page, {@code null} on the last page.
+ * @param indexedSpecies Number of species retrieved so far and indexed, the only ones a query can match.
+ */
+@Serdeable
+public record PokemonQueryResponse(List<PokemonInfoResponse> results, @Nullable String nextCursor, int indexedSpecies) { }
@@ -0,0 +1,14 @@
+package com.tommasoamadori.pokedex.dto.response;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+/**
+ * Pokémon matching a search.
+ *
+ * @param results        The matching Pokémon, best match first.
+ * @param indexedSpecies Number of species retrieved so far and indexed, the only ones a search can match.
+ */
+@Serdeable
+public record PokemonSearchResponse(List<PokemonInfoResponse> results, int indexedSpecies) { }
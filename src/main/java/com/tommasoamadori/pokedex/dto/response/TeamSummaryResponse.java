@@ -0,0 +1,31 @@
+package com.tommasoamadori.pokedex.dto.response;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A team of Pokémon with the facts aggregated over its members.
+ *
+ * @param members        The members found, in request order.
+ * @param notFound       The requested names matching no Pokémon.
+ * @param legendaryCount Number of legendary members.
+ * @param habitats       Number of members per habitat, in order of first appearance.
+ */
+@Serdeable
+public record TeamSummaryResponse(
+        List<Member> members,
+        List<String> notFound,
+        int legendaryCount,
+        Map<String, Integer> habitats
+) {
+
+    /**
+     * @param info                  The member information, with the original description.
+     * @param translatedDescription The fun translated description, {@code null} when not requested.
+     */
+    @Serdeable
+    public record Member(PokemonInfoResponse info, @Nullable String translatedDescription) { }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 
 @Serdeable(naming = SnakeCaseStrategy.class)
 public record PokeApiResponse(
+        Integer id,
         String name,
         HabitatModel habitat,
         Boolean isLegendary,
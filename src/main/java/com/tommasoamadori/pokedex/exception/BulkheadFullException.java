@@ -0,0 +1,7 @@
+package com.tommasoamadori.pokedex.exception;
+
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(String serviceName) {
+        super("Too many concurrent calls to service %s".formatted(serviceName));
+    }
+}
@@ -0,0 +1,7 @@
+package com.tommasoamadori.pokedex.exception;
+
+public class CorpusMissException extends RuntimeException {
+    public CorpusMissException(String serviceName, String key) {
+        super("No recorded exchange of service %s for %s".formatted(serviceName, key));
+    }
+}
@@ -0,0 +1,7 @@
+package com.tommasoamadori.pokedex.exception;
+
+public class DeadlineExceededException extends RuntimeException {
+    public DeadlineExceededException(String serviceName) {
+        super("Request deadline exceeded while calling service %s".formatted(serviceName));
+    }
+}
@@ -0,0 +1,7 @@
+package com.tommasoamadori.pokedex.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid cursor '%s'".formatted(cursor));
+    }
+}
@@ -0,0 +1,14 @@
+package com.tommasoamadori.pokedex.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long waitNanos;
+
+    public RateLimitExceededException(String routeName, long waitNanos) {
+        super("Rate limit of route %s exceeded".formatted(routeName));
+        this.waitNanos = waitNanos;
+    }
+}
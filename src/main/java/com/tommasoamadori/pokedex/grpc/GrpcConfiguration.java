@@ -0,0 +1,14 @@
+package com.tommasoamadori.pokedex.grpc;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+/**
+ * Configuration of the gRPC API, served on {@code grpc.server.port}.
+ *
+ * @param maxBatchSize Maximum number of names of a batch or streaming request.
+ */
+@ConfigurationProperties("pokedex.grpc")
+public record GrpcConfiguration(
+        @Bindable(defaultValue = "100") int maxBatchSize
+) { }
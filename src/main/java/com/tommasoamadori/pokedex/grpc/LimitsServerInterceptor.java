@@ -0,0 +1,215 @@
+package com.tommasoamadori.pokedex.grpc;
+
+import com.tommasoamadori.pokedex.admission.AdmissionConfiguration;
+import com.tommasoamadori.pokedex.admission.GradientLimiter;
+import com.tommasoamadori.pokedex.admission.RequestPriority;
+import com.tommasoamadori.pokedex.grpc.api.PokedexGrpc;
+import com.tommasoamadori.pokedex.grpc.api.PokemonBatchRequest;
+import com.tommasoamadori.pokedex.ratelimit.RateLimitConfiguration;
+import com.tommasoamadori.pokedex.ratelimit.RateLimiter;
+import com.tommasoamadori.pokedex.ratelimit.RouteRateLimitConfiguration;
+import com.tommasoamadori.pokedex.service.PokemonNameResolver;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies the per-caller rate limits and the adaptive concurrency limit of the REST API to the gRPC calls.
+ *
+ * <p>
+ * Plain lookups are charged to the {@code info} route and translated ones to the {@code translated} route.
+ * Batch and streaming calls are charged one token per distinct species to the route of their kind, like as many lookups,
+ * and a batch larger than the burst capacity of its route is rejected with {@code INVALID_ARGUMENT}, since it could never
+ * be admitted. They are admitted with low priority like the translated lookups, since bulk traffic is the first
+ * to shed when the service is overloaded.
+ * </p>
+ */
+@Slf4j
+@Singleton
+public class LimitsServerInterceptor implements ServerInterceptor {
+
+    private static final String INFO_ROUTE = "info";
+    private static final String TRANSLATED_ROUTE = "translated";
+    private static final Set<String> HIGH_PRIORITY_METHODS = Set.of(
+            PokedexGrpc.getGetPokemonInfoMethod().getFullMethodName()
+    );
+    private static final Set<String> TRANSLATED_METHODS = Set.of(
+            PokedexGrpc.getGetTranslatedPokemonInfoMethod().getFullMethodName()
+    );
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitConfiguration rateLimitConfiguration;
+    private final List<RouteRateLimitConfiguration> routes;
+    private final GradientLimiter limiter;
+    private final AdmissionConfiguration admissionConfiguration;
+    private final MeterRegistry meterRegistry;
+    private final PokemonNameResolver nameResolver;
+    private final Metadata.Key<String> callerKey;
+
+    public LimitsServerInterceptor(RateLimiter rateLimiter,
+                                   RateLimitConfiguration rateLimitConfiguration,
+                                   List<RouteRateLimitConfiguration> routes,
+                                   GradientLimiter limiter,
+                                   AdmissionConfiguration admissionConfiguration,
+                                   MeterRegistry meterRegistry,
+                                   PokemonNameResolver nameResolver) {
+        this.rateLimiter = rateLimiter;
+        this.rateLimitConfiguration = rateLimitConfiguration;
+        this.routes = routes;
+        this.limiter = limiter;
+        this.admissionConfiguration = admissionConfiguration;
+        this.meterRegistry = meterRegistry;
+        this.nameResolver = nameResolver;
+        // gRPC metadata keys are lowercase
+        this.callerKey = Metadata.Key.of(rateLimitConfiguration.header().toLowerCase(Locale.ROOT), Metadata.ASCII_STRING_MARSHALLER);
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers, ServerCallHandler<Q, R> next) {
+        final String method = call.getMethodDescriptor().getFullMethodName();
+        final String caller = Optional.ofNullable(headers.get(callerKey)).orElseGet(() -> remoteAddress(call));
+
+        if (!admissionConfiguration.enabled()) {
+            return rateLimited(call, next.startCall(call, headers), method, caller);
+        }
+
+        final RequestPriority priority = HIGH_PRIORITY_METHODS.contains(method) ? RequestPriority.HIGH : RequestPriority.LOW;
+        if (!limiter.tryAcquire(priority)) {
+            meterRegistry.counter("pokedex.admission.rejected", "priority", priority.name().toLowerCase(Locale.ROOT)).increment();
+            log.warn("Concurrency limit {} reached, shedding {}", limiter.getLimit(), method);
+
+            call.close(Status.UNAVAILABLE.withDescription("Service overloaded"), new Metadata());
+            return new ServerCall.Listener<>() { };
+        }
+
+        final long start = System.nanoTime();
+        // A call is either closed or cancelled, the flag guarantees a single release anyway
+        final AtomicBoolean released = new AtomicBoolean();
+        final ServerCall<Q, R> releasingCall = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                if (released.compareAndSet(false, true)) {
+                    limiter.release(System.nanoTime() - start,
+                            status.getCode() == Status.Code.UNAVAILABLE || status.getCode() == Status.Code.DEADLINE_EXCEEDED);
+                }
+                super.close(status, trailers);
+            }
+        };
+
+        final ServerCall.Listener<Q> listener = new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(releasingCall, headers)) {
+            @Override
+            public void onCancel() {
+                if (released.compareAndSet(false, true)) {
+                    limiter.release(System.nanoTime() - start, true);
+                }
+                super.onCancel();
+            }
+        };
+
+        return rateLimited(releasingCall, listener, method, caller);
+    }
+
+    /**
+     * Charges the rate limit when the request message arrives, since the route of a batch depends on its content.
+     * A rejected call is closed and the rest of its events are not forwarded to the service.
+     */
+    private <Q, R> ServerCall.Listener<Q> rateLimited(ServerCall<Q, R> call, ServerCall.Listener<Q> listener, String method, String caller) {
+        if (!rateLimitConfiguration.enabled()) {
+            return listener;
+        }
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            private boolean rejected;
+
+            @Override
+            public void onMessage(Q message) {
+                final Optional<Status> status = rateLimit(routeName(method, message), caller, permits(message));
+                if (status.isPresent()) {
+                    rejected = true;
+                    call.close(status.get(), new Metadata());
+                    return;
+                }
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onHalfClose() {
+                if (!rejected) {
+                    super.onHalfClose();
+                }
+            }
+        };
+    }
+
+    private static String routeName(String method, Object message) {
+        final boolean translated = TRANSLATED_METHODS.contains(method)
+                || message instanceof PokemonBatchRequest batch && batch.getTranslated();
+
+        return translated ? TRANSLATED_ROUTE : INFO_ROUTE;
+    }
+
+    /**
+     * @return The lookups a message costs: one per distinct species of a batch, an empty batch still costing one.
+     */
+    private long permits(Object message) {
+        if (message instanceof PokemonBatchRequest batch) {
+            return Math.max(1, PokedexGrpcService.distinctNames(batch, nameResolver).size());
+        }
+
+        return 1;
+    }
+
+    private Optional<Status> rateLimit(String routeName, String caller, long permits) {
+        final Optional<RouteRateLimitConfiguration> oRoute = routes.stream()
+                .filter(route -> route.name().equals(routeName))
+                .findFirst();
+        if (oRoute.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (permits > oRoute.get().capacity()) {
+            meterRegistry.counter("pokedex.rate-limit.rejected", "route", routeName).increment();
+            log.warn("Batch of {} names from {} exceeds the capacity of route {}", permits, caller, routeName);
+
+            return Optional.of(Status.INVALID_ARGUMENT.withDescription(
+                    "A batch can contain at most %d distinct species".formatted(oRoute.get().capacity())));
+        }
+
+        final long waitNanos = rateLimiter.tryAcquire(oRoute.get(), caller, permits);
+        if (waitNanos == 0) {
+            return Optional.empty();
+        }
+
+        meterRegistry.counter("pokedex.rate-limit.rejected", "route", routeName).increment();
+        log.warn("Rate limit of route {} exceeded by {}", routeName, caller);
+
+        return Optional.of(Status.RESOURCE_EXHAUSTED.withDescription(
+                "Rate limit exceeded, retry in %d ms".formatted(Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos)))));
+    }
+
+    private static String remoteAddress(ServerCall<?, ?> call) {
+        final SocketAddress address = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+        if (address instanceof InetSocketAddress inetAddress && inetAddress.getAddress() != null) {
+            return inetAddress.getAddress().getHostAddress();
+        }
+
+        return String.valueOf(address);
+    }
+}
@@ -0,0 +1,254 @@
+package com.tommasoamadori.pokedex.grpc;
+
+import com.tommasoamadori.pokedex.controller.PokemonController;
+import com.tommasoamadori.pokedex.deadline.Deadline;
+import com.tommasoamadori.pokedex.deadline.DeadlineConfiguration;
+import com.tommasoamadori.pokedex.deadline.DeadlineContext;
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.exception.BulkheadFullException;
+import com.tommasoamadori.pokedex.exception.DeadlineExceededException;
+import com.tommasoamadori.pokedex.exception.PokemonNotFoundException;
+import com.tommasoamadori.pokedex.grpc.api.PokedexGrpc;
+import com.tommasoamadori.pokedex.grpc.api.PokemonBatchRequest;
+import com.tommasoamadori.pokedex.grpc.api.PokemonBatchResponse;
+import com.tommasoamadori.pokedex.grpc.api.PokemonError;
+import com.tommasoamadori.pokedex.grpc.api.PokemonInfo;
+import com.tommasoamadori.pokedex.grpc.api.PokemonRequest;
+import com.tommasoamadori.pokedex.grpc.api.PokemonResult;
+import com.tommasoamadori.pokedex.service.PokemonBaseService;
+import com.tommasoamadori.pokedex.service.PokemonNameResolver;
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.micronaut.core.propagation.PropagatedContext;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * gRPC counterpart of {@link PokemonController}, backed by the same {@link PokemonBaseService},
+ * so it shares the caches, the bulkheads, the retries and the deadlines of the REST API.
+ *
+ * <p>
+ * Calls run on the same executors as the REST lookups, never on the gRPC transport threads.
+ * The gRPC deadline, capped by {@link DeadlineConfiguration#maxTimeout()}, becomes the request {@link Deadline},
+ * and a client cancellation cancels the pending upstream calls.
+ * </p>
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+public class PokedexGrpcService extends PokedexGrpc.PokedexImplBase {
+
+    private final PokemonBaseService pokemonService;
+    private final PokemonNameResolver nameResolver;
+    private final DeadlineConfiguration deadlineConfiguration;
+    private final GrpcConfiguration configuration;
+    @Named(PokemonController.INFO_EXECUTOR)
+    private final ExecutorService infoExecutor;
+    @Named(PokemonController.TRANSLATED_EXECUTOR)
+    private final ExecutorService translatedExecutor;
+
+    @Override
+    public void getPokemonInfo(PokemonRequest request, StreamObserver<PokemonInfo> responseObserver) {
+        unary(lookup(false, request.getName()), false, responseObserver);
+    }
+
+    @Override
+    public void getTranslatedPokemonInfo(PokemonRequest request, StreamObserver<PokemonInfo> responseObserver) {
+        unary(lookup(true, request.getName()), true, responseObserver);
+    }
+
+    @Override
+    public void getPokemonInfoBatch(PokemonBatchRequest request, StreamObserver<PokemonBatchResponse> responseObserver) {
+        if (!isValid(request, responseObserver)) {
+            return;
+        }
+
+        final Deadline deadline = startDeadline(request.getTranslated());
+        final List<CompletableFuture<PokemonResult>> results = distinctNames(request, nameResolver).stream()
+                .map(name -> submit(deadline, request.getTranslated(), lookupResult(request.getTranslated(), name)))
+                .toList();
+
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).whenComplete((ignored, e) -> {
+            responseObserver.onNext(PokemonBatchResponse.newBuilder()
+                    .addAllResults(results.stream().map(CompletableFuture::join).toList())
+                    .build());
+            responseObserver.onCompleted();
+        });
+    }
+
+    @Override
+    public void streamPokemonInfo(PokemonBatchRequest request, StreamObserver<PokemonResult> responseObserver) {
+        if (!isValid(request, responseObserver)) {
+            return;
+        }
+
+        final ServerCallStreamObserver<PokemonResult> serverObserver = (ServerCallStreamObserver<PokemonResult>) responseObserver;
+        final Deadline deadline = startDeadline(request.getTranslated());
+        serverObserver.setOnCancelHandler(deadline::cancel);
+
+        // Results complete on different threads, while a StreamObserver must not be called concurrently
+        final List<CompletableFuture<Void>> sent = distinctNames(request, nameResolver).stream()
+                .map(name -> submit(deadline, request.getTranslated(), lookupResult(request.getTranslated(), name))
+                        .thenAccept(result -> {
+                            synchronized (serverObserver) {
+                                if (!serverObserver.isCancelled()) {
+                                    serverObserver.onNext(result);
+                                }
+                            }
+                        }))
+                .toList();
+
+        CompletableFuture.allOf(sent.toArray(CompletableFuture[]::new)).whenComplete((ignored, e) -> {
+            synchronized (serverObserver) {
+                if (!serverObserver.isCancelled()) {
+                    serverObserver.onCompleted();
+                }
+            }
+        });
+    }
+
+    private void unary(Supplier<PokemonInfo> lookup, boolean translated, StreamObserver<PokemonInfo> responseObserver) {
+        submit(startDeadline(translated), translated, lookup).whenComplete((info, e) -> {
+            if (e != null) {
+                responseObserver.onError(toStatus(unwrap(e)).asRuntimeException());
+                return;
+            }
+            responseObserver.onNext(info);
+            responseObserver.onCompleted();
+        });
+    }
+
+    private Supplier<PokemonInfo> lookup(boolean translated, String name) {
+        return () -> toPokemonInfo(translated
+                ? pokemonService.getTranslatedPokemonInfo(name)
+                : pokemonService.getPokemonInfo(name));
+    }
+
+    private Supplier<PokemonResult> lookupResult(boolean translated, String name) {
+        final Supplier<PokemonInfo> lookup = lookup(translated, name);
+
+        return () -> {
+            final PokemonResult.Builder result = PokemonResult.newBuilder().setName(name);
+            try {
+                return result.setInfo(lookup.get()).build();
+            } catch (RuntimeException e) {
+                final Status status = toStatus(e);
+                return result.setError(PokemonError.newBuilder()
+                                .setCode(status.getCode().name())
+                                .setMessage(status.getDescription() == null ? "" : status.getDescription()))
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * Runs a lookup on the executor of its kind, within the given deadline.
+     * The propagated context carries the deadline and the current span to the executor thread.
+     */
+    private <T> CompletableFuture<T> submit(Deadline deadline, boolean translated, Supplier<T> lookup) {
+        try (PropagatedContext.Scope ignored = PropagatedContext.getOrEmpty().plus(new DeadlineContext(deadline)).propagate()) {
+            final Supplier<T> propagated = PropagatedContext.wrapCurrent(lookup);
+            return CompletableFuture.supplyAsync(propagated, translated ? translatedExecutor : infoExecutor);
+        }
+    }
+
+    private Deadline startDeadline(boolean translated) {
+        final Duration defaultTimeout = translated
+                ? deadlineConfiguration.translatedTimeout()
+                : deadlineConfiguration.defaultTimeout();
+        final io.grpc.Deadline grpcDeadline = Context.current().getDeadline();
+        final Duration timeout = grpcDeadline == null
+                ? defaultTimeout
+                : Duration.ofNanos(Math.min(grpcDeadline.timeRemaining(TimeUnit.NANOSECONDS), deadlineConfiguration.maxTimeout().toNanos()));
+
+        final Deadline deadline = Deadline.after(timeout);
+        Context.current().addListener(context -> deadline.cancel(), Runnable::run);
+
+        return deadline;
+    }
+
+    private boolean isValid(PokemonBatchRequest request, StreamObserver<?> responseObserver) {
+        if (request.getNamesCount() == 0 || request.getNamesCount() > configuration.maxBatchSize()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("A batch must contain between 1 and %d names".formatted(configuration.maxBatchSize()))
+                    .asRuntimeException());
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Deduplicates the names of a batch by the species they resolve to, as the lookups do, so that
+     * {@code Pikachu}, {@code pikachu } and {@code 25} are looked up and charged once.
+     * A name the resolver rejects is kept as written, to get its own not found result.
+     *
+     * @return The first requested name of every distinct species, in request order.
+     */
+    static List<String> distinctNames(PokemonBatchRequest request, PokemonNameResolver nameResolver) {
+        final Map<String, String> names = new LinkedHashMap<>();
+        request.getNamesList().forEach(name -> names.putIfAbsent(speciesKey(name, nameResolver), name));
+
+        return List.copyOf(names.values());
+    }
+
+    private static String speciesKey(String name, PokemonNameResolver nameResolver) {
+        try {
+            return nameResolver.resolve(name);
+        } catch (PokemonNotFoundException e) {
+            // A rejected name never equals a resolved one, which always resolves to itself
+            return name;
+        }
+    }
+
+    private static PokemonInfo toPokemonInfo(PokemonInfoResponse pokemonInfo) {
+        final PokemonInfo.Builder info = PokemonInfo.newBuilder()
+                .setIsLegendary(Boolean.TRUE.equals(pokemonInfo.isLegendary()));
+        setIfPresent(pokemonInfo.name(), info::setName);
+        setIfPresent(pokemonInfo.description(), info::setDescription);
+        setIfPresent(pokemonInfo.habitat(), info::setHabitat);
+
+        return info.build();
+    }
+
+    private static void setIfPresent(String value, Function<String, PokemonInfo.Builder> setter) {
+        // Protobuf setters reject nulls, an absent field is left to its default
+        if (value != null) {
+            setter.apply(value);
+        }
+    }
+
+    private static Status toStatus(Throwable e) {
+        if (e instanceof PokemonNotFoundException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage());
+        }
+        if (e instanceof BulkheadFullException) {
+            return Status.UNAVAILABLE.withDescription(e.getMessage());
+        }
+        if (e instanceof DeadlineExceededException) {
+            return Status.DEADLINE_EXCEEDED.withDescription(e.getMessage());
+        }
+
+        log.error("Unexpected failure of a gRPC call", e);
+        return Status.INTERNAL.withDescription(e.getMessage());
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
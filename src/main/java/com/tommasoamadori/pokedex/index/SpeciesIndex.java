@@ -0,0 +1,132 @@
+package com.tommasoamadori.pokedex.index;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.snapshot.SpeciesEntry;
+import com.tommasoamadori.pokedex.snapshot.SpeciesSnapshot;
+import com.tommasoamadori.pokedex.snapshot.SpeciesSnapshotStore;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Columnar in-memory index of the species snapshot, answering attribute queries without upstream calls.
+ *
+ * <p>
+ * Species are laid out by national dex number: one bitset marks the known species, one the legendary ones,
+ * and one per habitat its species. A query is a few bitset intersections followed by a scan of the set bits.
+ * The index is rebuilt lazily whenever the snapshot version changes. It only covers the species retrieved so far,
+ * so every result reports how many species were indexed.
+ * </p>
+ */
+@Singleton
+@RequiredArgsConstructor
+public class SpeciesIndex {
+
+    private final SpeciesSnapshotStore snapshotStore;
+
+    private volatile Columns columns = Columns.build(SpeciesSnapshot.empty());
+
+    /**
+     * Runs a query over the current snapshot.
+     *
+     * @param query The query.
+     * @return A page of matching species.
+     */
+    public SpeciesQueryResult query(SpeciesQuery query) {
+        final Columns current = currentColumns();
+
+        final BitSet matches = new BitSet();
+        final int from = Math.max(Math.max(query.from(), query.after() + 1), 1);
+        final int to = Math.min(query.to(), current.species().length - 1);
+        if (from > to) {
+            return new SpeciesQueryResult(List.of(), null, current.known().cardinality());
+        }
+
+        matches.set(from, to + 1);
+        matches.and(current.known());
+
+        if (query.habitat() != null) {
+            matches.and(current.byHabitat().getOrDefault(query.habitat().toLowerCase(Locale.ROOT), new BitSet()));
+        }
+        if (query.legendary() != null) {
+            if (query.legendary()) {
+                matches.and(current.legendary());
+            } else {
+                matches.andNot(current.legendary());
+            }
+        }
+
+        final List<PokemonInfoResponse> results = new ArrayList<>(Math.min(query.limit(), matches.cardinality()));
+        int dexNumber = matches.nextSetBit(0);
+        while (dexNumber >= 0 && results.size() < query.limit()) {
+            results.add(current.species()[dexNumber]);
+            dexNumber = matches.nextSetBit(dexNumber + 1);
+        }
+
+        final Integer lastDexNumber = dexNumber >= 0 ? matches.previousSetBit(dexNumber - 1) : null;
+
+        return new SpeciesQueryResult(results, lastDexNumber, current.known().cardinality());
+    }
+
+    private Columns currentColumns() {
+        final SpeciesSnapshot snapshot = snapshotStore.current();
+        Columns current = columns;
+        if (current.version() == snapshot.version()) {
+            return current;
+        }
+
+        synchronized (this) {
+            // A thread that waited on the lock may hold an older snapshot than the one already built
+            final SpeciesSnapshot latest = snapshotStore.current();
+            current = columns;
+            if (latest.version() > current.version()) {
+                current = Columns.build(latest);
+                columns = current;
+            }
+        }
+
+        return current;
+    }
+
+    private record Columns(long version, PokemonInfoResponse[] species, BitSet known, BitSet legendary, Map<String, BitSet> byHabitat) {
+
+        static Columns build(SpeciesSnapshot snapshot) {
+            final int maxDexNumber = snapshot.entries().values().stream()
+                    .map(SpeciesEntry::id)
+                    .filter(id -> id != null && id > 0)
+                    .mapToInt(Integer::intValue)
+                    .max()
+                    .orElse(0);
+
+            final PokemonInfoResponse[] species = new PokemonInfoResponse[maxDexNumber + 1];
+            final BitSet known = new BitSet(maxDexNumber + 1);
+            final BitSet legendary = new BitSet(maxDexNumber + 1);
+            final Map<String, BitSet> byHabitat = new HashMap<>();
+
+            for (SpeciesEntry entry : snapshot.entries().values()) {
+                if (entry.id() == null || entry.id() <= 0) {
+                    continue;
+                }
+
+                final int dexNumber = entry.id();
+                final PokemonInfoResponse info = entry.info();
+                species[dexNumber] = info;
+                known.set(dexNumber);
+                if (Boolean.TRUE.equals(info.isLegendary())) {
+                    legendary.set(dexNumber);
+                }
+                if (info.habitat() != null) {
+                    byHabitat.computeIfAbsent(info.habitat(), habitat -> new BitSet()).set(dexNumber);
+                }
+            }
+
+            return new Columns(snapshot.version(), species, known, legendary, Map.copyOf(byHabitat));
+        }
+    }
+}
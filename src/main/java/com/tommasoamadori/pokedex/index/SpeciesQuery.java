@@ -0,0 +1,22 @@
+package com.tommasoamadori.pokedex.index;
+
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Filter over the species index.
+ *
+ * @param habitat   Habitat of the species, any when {@code null}.
+ * @param legendary Legendary status of the species, any when {@code null}.
+ * @param from      Lowest national dex number, inclusive.
+ * @param to        Highest national dex number, inclusive.
+ * @param after     Dex number of the last species of the previous page, 0 for the first page.
+ * @param limit     Maximum number of species returned.
+ */
+public record SpeciesQuery(
+        @Nullable String habitat,
+        @Nullable Boolean legendary,
+        int from,
+        int to,
+        int after,
+        int limit
+) { }
@@ -0,0 +1,13 @@
+package com.tommasoamadori.pokedex.index;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * @param results     The matching species, ordered by national dex number.
+ * @param lastDexNumber Dex number of the last returned species when more results follow, {@code null} otherwise.
+ * @param indexedSpecies Number of species in the queried index, the only ones a query can match.
+ */
+public record SpeciesQueryResult(List<PokemonInfoResponse> results, @Nullable Integer lastDexNumber, int indexedSpecies) { }
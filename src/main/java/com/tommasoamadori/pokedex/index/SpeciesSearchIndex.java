@@ -0,0 +1,310 @@
+package com.tommasoamadori.pokedex.index;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.snapshot.SpeciesEntry;
+import com.tommasoamadori.pokedex.snapshot.SpeciesSnapshot;
+import com.tommasoamadori.pokedex.snapshot.SpeciesSnapshotStore;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over the names and descriptions of the species snapshot.
+ *
+ * <p>
+ * Every query term is matched against the indexed terms three ways, from the strongest to the weakest:
+ * <ol>
+ *     <li>exactly;</li>
+ *     <li>as a prefix, through the sorted term dictionary, to support autocomplete;</li>
+ *     <li>within a small edit distance, verifying only the terms that share enough trigrams with it.</li>
+ * </ol>
+ * Matches on the name weigh more than matches on the description.
+ * The index follows the snapshot incrementally: when its version changes, only the species whose entry changed are re-indexed.
+ * </p>
+ */
+@Singleton
+@RequiredArgsConstructor
+public class SpeciesSearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int NAME_WEIGHT = 4;
+    private static final int EXACT_SCORE = 3;
+    private static final int PREFIX_SCORE = 2;
+    private static final int FUZZY_SCORE = 1;
+
+    private final SpeciesSnapshotStore snapshotStore;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Set<String>> namePostings = new HashMap<>();
+    private final Map<String, Set<String>> descriptionPostings = new HashMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    private final TreeSet<String> dictionary = new TreeSet<>();
+    private final Map<String, SpeciesEntry> indexedEntries = new HashMap<>();
+    private volatile long indexedVersion;
+
+    /**
+     * Searches the species whose name or description matches the query.
+     *
+     * @param query The free text query.
+     * @param limit Maximum number of species returned.
+     * @return The matching species, best match first.
+     */
+    public List<PokemonInfoResponse> search(String query, int limit) {
+        catchUp();
+
+        final List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            final Map<String, Integer> scores = new HashMap<>();
+            for (String queryTerm : queryTerms) {
+                final Map<String, Integer> termScores = new HashMap<>();
+                for (Map.Entry<String, Integer> match : matchTerms(queryTerm).entrySet()) {
+                    score(termScores, namePostings.get(match.getKey()), match.getValue() * NAME_WEIGHT);
+                    score(termScores, descriptionPostings.get(match.getKey()), match.getValue());
+                }
+                termScores.forEach((species, score) -> scores.merge(species, score, Integer::sum));
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(entry -> indexedEntries.get(entry.getKey()).info())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The number of indexed species, the only ones a search can match.
+     */
+    public int indexedSpecies() {
+        catchUp();
+
+        lock.readLock().lock();
+        try {
+            return indexedEntries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed terms matching a query term, with the score of the best way they match.
+     */
+    private Map<String, Integer> matchTerms(String queryTerm) {
+        final Map<String, Integer> matches = new HashMap<>();
+
+        final int maxDistance = queryTerm.length() < MIN_FUZZY_LENGTH ? 0 : queryTerm.length() < 8 ? 1 : 2;
+        if (maxDistance > 0) {
+            final Set<String> queryTrigrams = trigrams(queryTerm);
+            final Map<String, Integer> sharedTrigrams = new HashMap<>();
+            for (String trigram : queryTrigrams) {
+                for (String term : termsByTrigram.getOrDefault(trigram, Set.of())) {
+                    sharedTrigrams.merge(term, 1, Integer::sum);
+                }
+            }
+
+            // Every edit changes at most three trigrams
+            final int minShared = Math.max(1, queryTrigrams.size() - 3 * maxDistance);
+            sharedTrigrams.forEach((term, shared) -> {
+                if (shared >= minShared && isWithinDistance(queryTerm, term, maxDistance)) {
+                    matches.put(term, FUZZY_SCORE);
+                }
+            });
+        }
+
+        for (String term : dictionary.subSet(queryTerm, true, queryTerm + Character.MAX_VALUE, false)) {
+            matches.put(term, PREFIX_SCORE);
+        }
+        if (dictionary.contains(queryTerm)) {
+            matches.put(queryTerm, EXACT_SCORE);
+        }
+
+        return matches;
+    }
+
+    private static void score(Map<String, Integer> scores, Set<String> species, int score) {
+        if (species != null) {
+            species.forEach(name -> scores.merge(name, score, Math::max));
+        }
+    }
+
+    private void catchUp() {
+        if (snapshotStore.current().version() <= indexedVersion) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // A thread that waited on the lock may hold an older snapshot than the one already indexed
+            final SpeciesSnapshot snapshot = snapshotStore.current();
+            if (snapshot.version() <= indexedVersion) {
+                return;
+            }
+
+            snapshot.entries().forEach((species, entry) -> {
+                final SpeciesEntry indexed = indexedEntries.get(species);
+                if (indexed != entry) {
+                    if (indexed != null) {
+                        unindex(species, indexed.info());
+                    }
+                    index(species, entry.info());
+                    indexedEntries.put(species, entry);
+                }
+            });
+            indexedEntries.entrySet().removeIf(indexed -> {
+                if (snapshot.entries().containsKey(indexed.getKey())) {
+                    return false;
+                }
+                unindex(indexed.getKey(), indexed.getValue().info());
+                return true;
+            });
+            indexedVersion = snapshot.version();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(String species, PokemonInfoResponse info) {
+        for (String term : nameTerms(species)) {
+            namePostings.computeIfAbsent(term, key -> new HashSet<>()).add(species);
+            addTerm(term);
+        }
+        for (String term : tokenize(info.description())) {
+            descriptionPostings.computeIfAbsent(term, key -> new HashSet<>()).add(species);
+            addTerm(term);
+        }
+    }
+
+    private void unindex(String species, PokemonInfoResponse info) {
+        for (String term : nameTerms(species)) {
+            removePosting(namePostings, term, species);
+        }
+        for (String term : tokenize(info.description())) {
+            removePosting(descriptionPostings, term, species);
+        }
+    }
+
+    private void addTerm(String term) {
+        if (dictionary.add(term)) {
+            for (String trigram : trigrams(term)) {
+                termsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(term);
+            }
+        }
+    }
+
+    private void removePosting(Map<String, Set<String>> postings, String term, String species) {
+        final Set<String> termSpecies = postings.get(term);
+        if (termSpecies == null) {
+            return;
+        }
+
+        termSpecies.remove(species);
+        if (termSpecies.isEmpty()) {
+            postings.remove(term);
+        }
+        if (!namePostings.containsKey(term) && !descriptionPostings.containsKey(term)) {
+            dictionary.remove(term);
+            for (String trigram : trigrams(term)) {
+                final Set<String> terms = termsByTrigram.get(trigram);
+                if (terms != null && terms.remove(term) && terms.isEmpty()) {
+                    termsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * The whole species name, so {@code mr-mime} matches {@code mrmime}, and each of its parts.
+     */
+    private static Set<String> nameTerms(String species) {
+        final Set<String> terms = new LinkedHashSet<>(tokenize(species));
+        terms.add(NON_ALPHANUMERIC.matcher(species).replaceAll(""));
+        terms.remove("");
+
+        return terms;
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+
+        final String normalizedText = DIACRITICS.matcher(Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD))
+                .replaceAll("");
+        final List<String> terms = new ArrayList<>();
+        for (String term : NON_ALPHANUMERIC.split(normalizedText)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+
+        return terms;
+    }
+
+    private static Set<String> trigrams(String term) {
+        final String padded = "$" + term + "$";
+        final Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+
+        return trigrams;
+    }
+
+    /**
+     * Levenshtein distance check that gives up as soon as a row exceeds the maximum distance.
+     */
+    static boolean isWithinDistance(String source, String target, int maxDistance) {
+        if (Math.abs(source.length() - target.length()) > maxDistance) {
+            return false;
+        }
+
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= target.length(); j++) {
+                final int substitution = previous[j - 1] + (source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return false;
+            }
+
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[target.length()] <= maxDistance;
+    }
+}
@@ -0,0 +1,23 @@
+package com.tommasoamadori.pokedex.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.tommasoamadori.pokedex.CacheLookup")
+@Label("Cache Lookup")
+@Category({"Pokedex", "Cache"})
+@Description("Lookup of a key in the two-tier cache, loading included on a miss")
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+    @Label("Key")
+    public String key;
+
+    @Label("Outcome")
+    @Description("hit, joined or loaded")
+    public String outcome;
+}
@@ -0,0 +1,40 @@
+package com.tommasoamadori.pokedex.profiling;
+
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Sizes recorded in the {@link jdk.jfr.DataAmount} fields of the events, which are in bytes.
+ */
+public final class EventSizes {
+
+    private EventSizes() { }
+
+    /**
+     * @return The length of the text encoded as UTF-8, as {@link String#getBytes} would encode it, without encoding it, 0 for {@code null}.
+     */
+    public static long utf8Length(@Nullable CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // Encoded as the '?' replacement
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+}
@@ -0,0 +1,27 @@
+package com.tommasoamadori.pokedex.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.tommasoamadori.pokedex.FlavorTextSelection")
+@Label("Flavor Text Selection")
+@Category({"Pokedex", "Mapping"})
+@Description("Selection and sanitization of the English flavor text of a species")
+@StackTrace(false)
+public class FlavorTextSelectionEvent extends Event {
+
+    @Label("Species")
+    public String species;
+
+    @Label("Flavor Text Entries")
+    public int entries;
+
+    @Label("Description Size")
+    @DataAmount
+    public long descriptionSize;
+}
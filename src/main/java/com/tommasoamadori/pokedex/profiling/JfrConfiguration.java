@@ -0,0 +1,25 @@
+package com.tommasoamadori.pokedex.profiling;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the always-on Flight Recorder recording.
+ *
+ * @param enabled     Whether the recording starts with the application.
+ * @param settings    The JFR settings to use, "default" has an overhead below 1%.
+ * @param maxAge      How long the recorded data is kept in the on-disk repository.
+ * @param maxSize     Maximum size of the on-disk repository, in bytes.
+ * @param destination File the recording is written to on shutdown, none when {@code null}.
+ */
+@ConfigurationProperties("pokedex.profiling.jfr")
+public record JfrConfiguration(
+        @Bindable(defaultValue = "false") boolean enabled,
+        @Bindable(defaultValue = "default") String settings,
+        @Bindable(defaultValue = "6h") Duration maxAge,
+        @Bindable(defaultValue = "262144000") long maxSize,
+        @Nullable String destination
+) { }
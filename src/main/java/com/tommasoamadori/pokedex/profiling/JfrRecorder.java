@@ -0,0 +1,69 @@
+package com.tommasoamadori.pokedex.profiling;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.util.StringUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * Keeps a Flight Recorder recording running for the whole life of the application.
+ *
+ * <p>
+ * The recording rolls over on disk within the configured age and size, so after an incident the last hours
+ * can be dumped with {@code jcmd <pid> JFR.dump name=pokedex filename=incident.jfr} without redeploying.
+ * </p>
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+@Requires(property = "pokedex.profiling.jfr.enabled", value = StringUtils.TRUE)
+public class JfrRecorder implements ApplicationEventListener<StartupEvent> {
+
+    private static final String RECORDING_NAME = "pokedex";
+
+    private final JfrConfiguration configuration;
+
+    private Recording recording;
+
+    @Override
+    public synchronized void onApplicationEvent(StartupEvent event) {
+        try {
+            recording = new Recording(Configuration.getConfiguration(configuration.settings()));
+            recording.setName(RECORDING_NAME);
+            recording.setToDisk(true);
+            recording.setMaxAge(configuration.maxAge());
+            recording.setMaxSize(configuration.maxSize());
+            if (configuration.destination() != null) {
+                recording.setDestination(Path.of(configuration.destination()));
+            }
+            recording.start();
+            log.info("Started JFR recording {} with {} settings", RECORDING_NAME, configuration.settings());
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            log.warn("Unable to start JFR recording: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (recording == null) {
+            return;
+        }
+
+        // Stopping writes the recording to its destination, if any
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        recording.close();
+    }
+}
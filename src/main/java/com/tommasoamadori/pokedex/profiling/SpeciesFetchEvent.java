@@ -0,0 +1,33 @@
+package com.tommasoamadori.pokedex.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.tommasoamadori.pokedex.SpeciesFetch")
+@Label("Species Fetch")
+@Category({"Pokedex", "Upstream"})
+@Description("Retrieval of a species from PokeAPI, retries included, failed ones too")
+@StackTrace(false)
+public class SpeciesFetchEvent extends Event {
+
+    @Label("Species")
+    public String species;
+
+    @Label("HTTP Status")
+    @Description("0 when no response was received")
+    public int status;
+
+    @Label("Payload Size")
+    @Description("Size of the decoded response body, -1 when unknown")
+    @DataAmount
+    public long payloadSize = -1;
+
+    @Label("Failure")
+    @Description("Type of the exception that failed the retrieval, if any")
+    public String failure;
+}
@@ -0,0 +1,34 @@
+package com.tommasoamadori.pokedex.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.tommasoamadori.pokedex.TranslationCall")
+@Label("Translation Call")
+@Category({"Pokedex", "Upstream"})
+@Description("Remote translation of a description, batching wait included")
+@StackTrace(false)
+public class TranslationCallEvent extends Event {
+
+    @Label("Species")
+    public String species;
+
+    @Label("Style")
+    public String style;
+
+    @Label("Text Size")
+    @DataAmount
+    public long textSize;
+
+    @Label("Translation Size")
+    @DataAmount
+    public long translationSize;
+
+    @Label("Translated")
+    public boolean translated;
+}
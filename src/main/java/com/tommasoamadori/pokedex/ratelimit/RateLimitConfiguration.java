@@ -0,0 +1,22 @@
+package com.tommasoamadori.pokedex.ratelimit;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the per-caller rate limiting.
+ *
+ * @param enabled     Whether the rate limits are enforced.
+ * @param header      Request header identifying the caller; the remote address is used when missing.
+ * @param maxKeys     Maximum number of callers tracked at the same time.
+ * @param idleTimeout How long the state of an idle caller is kept.
+ */
+@ConfigurationProperties("pokedex.rate-limit")
+public record RateLimitConfiguration(
+        @Bindable(defaultValue = "true") boolean enabled,
+        @Bindable(defaultValue = "X-Api-Key") String header,
+        @Bindable(defaultValue = "100000") long maxKeys,
+        @Bindable(defaultValue = "10m") Duration idleTimeout
+) { }
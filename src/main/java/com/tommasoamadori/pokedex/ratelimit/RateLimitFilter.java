@@ -0,0 +1,129 @@
+package com.tommasoamadori.pokedex.ratelimit;
+
+import com.tommasoamadori.pokedex.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.annotation.Order;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetSocketAddress;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces the per-caller rate limit of the route matching each Pokémon request, answering 429 when exceeded.
+ * It runs before any other filter, so that a noisy caller never takes a share of the concurrency limit.
+ *
+ * <p>
+ * Requests whose cost depends on their body are charged again by their controller through {@link #charge}.
+ * </p>
+ */
+@Slf4j
+@Order(-200)
+@ServerFilter("/pokemon/**")
+public class RateLimitFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitConfiguration configuration;
+    private final List<RouteRateLimitConfiguration> routes;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           RateLimitConfiguration configuration,
+                           List<RouteRateLimitConfiguration> routes,
+                           MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.configuration = configuration;
+        this.routes = routes.stream()
+                .sorted(Comparator.comparingInt((RouteRateLimitConfiguration route) -> route.path().length()).reversed())
+                .toList();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Nullable
+    @RequestFilter
+    public HttpResponse<?> limit(HttpRequest<?> request) {
+        if (!configuration.enabled()) {
+            return null;
+        }
+
+        final Optional<RouteRateLimitConfiguration> oRoute = routes.stream()
+                .filter(route -> request.getPath().startsWith(route.path()))
+                .findFirst();
+        if (oRoute.isEmpty()) {
+            return null;
+        }
+
+        final long waitNanos = tryAcquire(oRoute.get(), caller(request), 1);
+        if (waitNanos == 0) {
+            return null;
+        }
+
+        return HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfter(waitNanos));
+    }
+
+    /**
+     * Charges a request to the rate limit of a route other than the one of its path.
+     * Permits above the capacity of the route are capped to it, since they could never be admitted otherwise.
+     *
+     * @param request   The request to charge.
+     * @param routeName The name of the route.
+     * @param permits   The tokens the request costs on that route.
+     * @throws RateLimitExceededException If the caller has not enough tokens left.
+     */
+    public void charge(HttpRequest<?> request, String routeName, long permits) {
+        if (!configuration.enabled()) {
+            return;
+        }
+
+        final Optional<RouteRateLimitConfiguration> oRoute = routes.stream()
+                .filter(route -> route.name().equals(routeName))
+                .findFirst();
+        if (oRoute.isEmpty()) {
+            return;
+        }
+
+        final long waitNanos = tryAcquire(oRoute.get(), caller(request), Math.min(permits, oRoute.get().capacity()));
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException(routeName, waitNanos);
+        }
+    }
+
+    /**
+     * @return The Retry-After header value, in seconds, for a wait in nanoseconds.
+     */
+    public static String retryAfter(long waitNanos) {
+        return Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+    }
+
+    private long tryAcquire(RouteRateLimitConfiguration route, String caller, long permits) {
+        final long waitNanos = rateLimiter.tryAcquire(route, caller, permits);
+        if (waitNanos > 0) {
+            meterRegistry.counter("pokedex.rate-limit.rejected", "route", route.name()).increment();
+            log.warn("Rate limit of route {} exceeded by {}", route.name(), caller);
+        }
+
+        return waitNanos;
+    }
+
+    private String caller(HttpRequest<?> request) {
+        return request.getHeaders().get(configuration.header())
+                .orElseGet(() -> remoteAddress(request.getRemoteAddress()));
+    }
+
+    /**
+     * @return The IP address of the caller, or its host name when the address is unresolved.
+     */
+    static String remoteAddress(InetSocketAddress address) {
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.tommasoamadori.pokedex.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets, one per caller and route.
+ *
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding its theoretical arrival time, as in the generic cell
+ * rate algorithm: admitting a request is one compare-and-set, with no lock and no background refill.
+ * Buckets live in a bounded Caffeine cache that evicts the idle callers.
+ * </p>
+ */
+@Singleton
+public class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    @Inject
+    public RateLimiter(RateLimitConfiguration configuration) {
+        this(configuration, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitConfiguration configuration, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(configuration.maxKeys())
+                .expireAfterAccess(configuration.idleTimeout())
+                .build();
+    }
+
+    /**
+     * Tries to take a token from the bucket of a caller.
+     *
+     * @param route  The route limit.
+     * @param caller The caller key.
+     * @return 0 if the request is admitted, otherwise the nanoseconds to wait before the next token.
+     */
+    public long tryAcquire(RouteRateLimitConfiguration route, String caller) {
+        return tryAcquire(route, caller, 1);
+    }
+
+    /**
+     * Tries to take several tokens at once from the bucket of a caller: either all of them are taken or none.
+     *
+     * @param route   The route limit.
+     * @param caller  The caller key.
+     * @param permits The tokens to take, at most the capacity of the route.
+     * @return 0 if the request is admitted, otherwise the nanoseconds to wait before enough tokens are available.
+     * @throws IllegalArgumentException If the tokens are not between 1 and the capacity of the route, so that they could never be taken.
+     */
+    public long tryAcquire(RouteRateLimitConfiguration route, String caller, long permits) {
+        if (permits < 1 || permits > route.capacity()) {
+            throw new IllegalArgumentException("Permits must be between 1 and %d".formatted(route.capacity()));
+        }
+
+        final long emissionInterval = (long) (NANOS_PER_SECOND / route.refillPerSecond());
+        final long burstTolerance = emissionInterval * (route.capacity() - 1);
+        final long now = nanoClock.getAsLong();
+        final AtomicLong theoreticalArrival = buckets.get(route.name() + ":" + caller, key -> new AtomicLong(now));
+
+        while (true) {
+            final long current = theoreticalArrival.get();
+            final long arrival = Math.max(current, now);
+            // The last of the tokens must conform, the previous ones arrive earlier
+            final long wait = arrival + emissionInterval * (permits - 1) - burstTolerance - now;
+
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + emissionInterval * permits)) {
+                return 0;
+            }
+        }
+    }
+}
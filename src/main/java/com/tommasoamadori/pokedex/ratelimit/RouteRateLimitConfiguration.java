@@ -0,0 +1,20 @@
+package com.tommasoamadori.pokedex.ratelimit;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+
+/**
+ * Rate limit of a route, applied to each caller separately.
+ *
+ * @param name            The route name.
+ * @param path            The path prefix of the route; the longest matching prefix wins.
+ * @param capacity        Maximum burst of requests.
+ * @param refillPerSecond Sustained requests per second.
+ */
+@EachProperty("pokedex.rate-limit.routes")
+public record RouteRateLimitConfiguration(
+        @Parameter String name,
+        String path,
+        long capacity,
+        double refillPerSecond
+) { }
@@ -0,0 +1,59 @@
+package com.tommasoamadori.pokedex.resilience;
+
+import com.tommasoamadori.pokedex.exception.BulkheadFullException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the concurrent calls to one upstream service, so that a slow dependency
+ * cannot hold every thread of the service.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final Semaphore permits;
+
+    public Bulkhead(BulkheadConfiguration configuration) {
+        this.name = configuration.name();
+        this.maxConcurrent = configuration.maxConcurrent();
+        this.maxWait = configuration.maxWait();
+        this.permits = new Semaphore(configuration.maxConcurrent(), true);
+    }
+
+    /**
+     * Runs a call once a slot is free.
+     *
+     * @param call The call to run.
+     * @return The result of the call.
+     * @throws BulkheadFullException if no slot frees up within the configured wait.
+     */
+    public <T> T execute(Supplier<T> call) {
+        try {
+            if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new BulkheadFullException(name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException(name);
+        }
+
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getInUse() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+}
@@ -0,0 +1,21 @@
+package com.tommasoamadori.pokedex.resilience;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Concurrency limit of the calls to an upstream service.
+ *
+ * @param name          The upstream service id.
+ * @param maxConcurrent Maximum number of concurrent calls.
+ * @param maxWait       Maximum wait for a free slot before failing the call.
+ */
+@EachProperty("pokedex.bulkhead")
+public record BulkheadConfiguration(
+        @Parameter String name,
+        @Bindable(defaultValue = "50") int maxConcurrent,
+        @Bindable(defaultValue = "100ms") Duration maxWait
+) { }
@@ -0,0 +1,39 @@
+package com.tommasoamadori.pokedex.resilience;
+
+import com.tommasoamadori.pokedex.constant.Upstream;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The bulkheads of the upstream services, built from the {@code pokedex.bulkhead} configuration.
+ * Upstream services without configuration are not bounded.
+ */
+@Singleton
+public class BulkheadRegistry {
+
+    private final Map<String, Bulkhead> bulkheads;
+
+    public BulkheadRegistry(List<BulkheadConfiguration> configurations, MeterRegistry meterRegistry) {
+        this.bulkheads = configurations.stream()
+                .collect(Collectors.toUnmodifiableMap(BulkheadConfiguration::name, Bulkhead::new));
+
+        bulkheads.forEach((name, bulkhead) -> {
+            meterRegistry.gauge("pokedex.bulkhead.in-use", Tags.of("upstream", name), bulkhead, Bulkhead::getInUse);
+            meterRegistry.gauge("pokedex.bulkhead.waiting", Tags.of("upstream", name), bulkhead, Bulkhead::getQueueLength);
+        });
+    }
+
+    public Optional<Bulkhead> find(Upstream upstream) {
+        return Optional.ofNullable(bulkheads.get(upstream.getCode()));
+    }
+
+    public Map<String, Bulkhead> getBulkheads() {
+        return bulkheads;
+    }
+}
@@ -0,0 +1,49 @@
+package com.tommasoamadori.pokedex.resilience;
+
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global retry budget shared by every upstream call.
+ *
+ * <p>
+ * Each call deposits {@code budgetRatio} tokens and each retry withdraws one, so retries can never exceed
+ * that share of the traffic and cannot amplify an outage. The balance starts from, and is capped at,
+ * {@code minBudget} tokens, so that low traffic can still retry.
+ * </p>
+ */
+@Singleton
+public class RetryBudget {
+
+    private static final long MILLI_TOKENS = 1000;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    public RetryBudget(RetryConfiguration configuration) {
+        this.deposit = (long) (configuration.budgetRatio() * MILLI_TOKENS);
+        this.maxBalance = configuration.minBudget() * MILLI_TOKENS;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    public void deposit() {
+        balance.getAndUpdate(current -> Math.min(maxBalance, current + deposit));
+    }
+
+    /**
+     * @return {@code true} if a retry is allowed, consuming one token.
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < MILLI_TOKENS) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - MILLI_TOKENS)) {
+                return true;
+            }
+        }
+    }
+}
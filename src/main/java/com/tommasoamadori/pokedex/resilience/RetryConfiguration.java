@@ -0,0 +1,26 @@
+package com.tommasoamadori.pokedex.resilience;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the retries of the upstream calls.
+ *
+ * @param maxAttempts    Maximum number of attempts of a call, the first one included (1 disables retries).
+ * @param initialBackoff Backoff cap of the first retry.
+ * @param maxBackoff     Backoff cap of any retry.
+ * @param multiplier     Growth factor of the backoff cap between retries.
+ * @param budgetRatio    Retries allowed per upstream call, so retries stay a bounded share of the traffic.
+ * @param minBudget      Retries always available when the traffic is low.
+ */
+@ConfigurationProperties("pokedex.retry")
+public record RetryConfiguration(
+        @Bindable(defaultValue = "3") int maxAttempts,
+        @Bindable(defaultValue = "50ms") Duration initialBackoff,
+        @Bindable(defaultValue = "1s") Duration maxBackoff,
+        @Bindable(defaultValue = "2") double multiplier,
+        @Bindable(defaultValue = "0.1") double budgetRatio,
+        @Bindable(defaultValue = "10") int minBudget
+) { }
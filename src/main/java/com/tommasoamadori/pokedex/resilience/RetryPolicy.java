@@ -0,0 +1,54 @@
+package com.tommasoamadori.pokedex.resilience;
+
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientException;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which upstream failures are worth a retry and how long to wait before it.
+ */
+@Singleton
+@RequiredArgsConstructor
+public class RetryPolicy {
+
+    private final RetryConfiguration configuration;
+
+    public int maxAttempts() {
+        return configuration.maxAttempts();
+    }
+
+    /**
+     * Only transient failures are retried: 5xx answers and connection failures or timeouts.
+     * Client errors, 429 included, would fail the same way again.
+     *
+     * @param failure The failure of the call.
+     * @return {@code true} if the call may succeed when retried.
+     */
+    public boolean isRetryable(Throwable failure) {
+        if (failure instanceof HttpClientResponseException responseException) {
+            return responseException.code() >= HttpStatus.INTERNAL_SERVER_ERROR.getCode();
+        }
+
+        return failure instanceof HttpClientException;
+    }
+
+    /**
+     * Exponential backoff with full jitter: a random wait between zero and the exponentially growing cap.
+     *
+     * @param attempt The number of the failed attempt, starting from 1.
+     * @return The wait before the next attempt.
+     */
+    public Duration backoff(int attempt) {
+        final double cap = Math.min(
+                configuration.maxBackoff().toNanos(),
+                configuration.initialBackoff().toNanos() * Math.pow(configuration.multiplier(), attempt - 1)
+        );
+
+        return Duration.ofNanos((long) (ThreadLocalRandom.current().nextDouble() * cap));
+    }
+}
@@ -0,0 +1,58 @@
+package com.tommasoamadori.pokedex.service;
+
+import com.tommasoamadori.pokedex.constant.Language;
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.PokeApiResponse;
+import com.tommasoamadori.pokedex.exception.NoValidFlavorTextException;
+import com.tommasoamadori.pokedex.profiling.EventSizes;
+import com.tommasoamadori.pokedex.profiling.FlavorTextSelectionEvent;
+import com.tommasoamadori.pokedex.tracing.SpanTracer;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maps the PokeAPI species resource to the Pokémon information served to the clients.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+public class PokeApiSpeciesMapper {
+
+    private final SpanTracer spanTracer;
+
+    /**
+     * @param pokemonInfo The species resource returned by PokeAPI.
+     * @return The Pokémon information, with the first English flavor text as description.
+     * @throws NoValidFlavorTextException if no English flavor text is found.
+     */
+    public PokemonInfoResponse toPokemonInfo(PokeApiResponse pokemonInfo) {
+        FlavorTextSelectionEvent selectionEvent = new FlavorTextSelectionEvent();
+        selectionEvent.begin();
+        String pokemonDescription = spanTracer.inSpan("PokeApiSpeciesMapper.selectFlavorText", () ->
+                pokemonInfo.flavorTextEntries().stream()
+                        .filter(flavorTextModel -> flavorTextModel.language().name().equals(Language.EN.getCode()))
+                        .findAny()
+                        .orElseThrow(() -> {
+                            log.error("No valid flavor text found");
+                            return new NoValidFlavorTextException();
+                        })
+                        .flavorText()
+                        .replaceAll("\\p{C}", " "));
+        selectionEvent.end();
+        if (selectionEvent.shouldCommit()) {
+            selectionEvent.species = pokemonInfo.name();
+            selectionEvent.entries = pokemonInfo.flavorTextEntries().size();
+            selectionEvent.descriptionSize = EventSizes.utf8Length(pokemonDescription);
+            selectionEvent.commit();
+        }
+
+        return PokemonInfoResponse
+                .builder()
+                .name(pokemonInfo.name())
+                .habitat(pokemonInfo.habitat().name())
+                .description(pokemonDescription)
+                .isLegendary(pokemonInfo.isLegendary())
+                .build();
+    }
+}
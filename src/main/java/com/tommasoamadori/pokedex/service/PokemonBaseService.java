@@ -1,8 +1,11 @@
 package com.tommasoamadori.pokedex.service;
 
 import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.dto.response.TeamSummaryResponse;
 import jakarta.inject.Singleton;
 
+import java.util.List;
+
 @Singleton
 public interface PokemonBaseService {
 
@@ -10,4 +13,8 @@ public interface PokemonBaseService {
 
     PokemonInfoResponse getTranslatedPokemonInfo(String name);
 
+    TranslatedPokemonInfo getTranslatedPokemonInfoWithOutcome(String name);
+
+    TeamSummaryResponse getTeamSummary(List<String> names, boolean translated);
+
 }
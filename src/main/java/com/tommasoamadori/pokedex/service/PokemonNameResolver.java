@@ -0,0 +1,105 @@
+package com.tommasoamadori.pokedex.service;
+
+import com.tommasoamadori.pokedex.exception.PokemonNotFoundException;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the identifiers received from the clients to canonical PokeAPI species names,
+ * so that {@code Pikachu}, {@code pikachu } and {@code 25} share the same cache entries and upstream calls.
+ *
+ * <p>
+ * Resolution rules:
+ * <ol>
+ *     <li>The name is trimmed, lowercased, stripped of diacritics and punctuation, and blanks become hyphens.</li>
+ *     <li>Configured aliases are mapped to their canonical name.</li>
+ *     <li>National dex numbers are mapped to the species name once PokeAPI has returned it.</li>
+ *     <li>Names that cannot be a species name are rejected before any I/O.</li>
+ * </ol>
+ * </p>
+ */
+@Slf4j
+@Singleton
+public class PokemonNameResolver {
+
+    private static final Pattern VALID_NAME = Pattern.compile("[a-z][a-z0-9]*(-[a-z0-9]+)*");
+    private static final Pattern DEX_NUMBER = Pattern.compile("\\d{1,5}");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}");
+    private static final Pattern PUNCTUATION = Pattern.compile("[.'’:]");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s_]+");
+    private static final int MAX_NAME_LENGTH = 32;
+
+    private final Map<String, String> aliases;
+    private final AtomicReferenceArray<String> namesByDexNumber;
+
+    public PokemonNameResolver(ResolverConfiguration configuration) {
+        this.aliases = configuration.aliases() == null ? Map.of() : Map.copyOf(configuration.aliases());
+        this.namesByDexNumber = new AtomicReferenceArray<>(configuration.maxDexNumber() + 1);
+    }
+
+    /**
+     * Resolves a Pokémon identifier to its canonical species key.
+     *
+     * @param name The name or national dex number received from the client.
+     * @return The canonical species name, or the dex number if its name is not known yet.
+     * @throws PokemonNotFoundException if the identifier cannot be a Pokémon.
+     */
+    public String resolve(String name) {
+        final String normalizedName = normalize(name);
+
+        if (DEX_NUMBER.matcher(normalizedName).matches()) {
+            final int dexNumber = Integer.parseInt(normalizedName);
+            if (dexNumber < 1 || dexNumber >= namesByDexNumber.length()) {
+                log.info("Rejected dex number {}", name);
+                throw new PokemonNotFoundException(name);
+            }
+
+            return Optional.ofNullable(namesByDexNumber.get(dexNumber)).orElse(Integer.toString(dexNumber));
+        }
+
+        final String canonicalName = aliases.getOrDefault(normalizedName, normalizedName);
+        if (canonicalName.length() > MAX_NAME_LENGTH || !VALID_NAME.matcher(canonicalName).matches()) {
+            log.info("Rejected invalid Pokémon name {}", name);
+            throw new PokemonNotFoundException(name);
+        }
+
+        return canonicalName;
+    }
+
+    /**
+     * Records the species name of a national dex number, as returned by PokeAPI.
+     *
+     * @param dexNumber The national dex number.
+     * @param name      The canonical species name.
+     */
+    public void register(Integer dexNumber, String name) {
+        if (dexNumber != null && dexNumber > 0 && dexNumber < namesByDexNumber.length() && name != null) {
+            namesByDexNumber.set(dexNumber, name);
+        }
+    }
+
+    public Optional<String> nameOf(int dexNumber) {
+        if (dexNumber < 1 || dexNumber >= namesByDexNumber.length()) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(namesByDexNumber.get(dexNumber));
+    }
+
+    private static String normalize(String name) {
+        String normalizedName = name.strip().toLowerCase(Locale.ROOT)
+                .replace("♀", "-f")
+                .replace("♂", "-m");
+        normalizedName = DIACRITICS.matcher(Normalizer.normalize(normalizedName, Normalizer.Form.NFD)).replaceAll("");
+        normalizedName = PUNCTUATION.matcher(normalizedName).replaceAll("");
+
+        return SEPARATORS.matcher(normalizedName).replaceAll("-");
+    }
+}
@@ -1,26 +1,57 @@
 package com.tommasoamadori.pokedex.service;
 
-import com.tommasoamadori.pokedex.client.api.funtranslations.FunTranslationsClient;
+import com.tommasoamadori.pokedex.cache.CacheConfiguration;
+import com.tommasoamadori.pokedex.cache.CacheKeys;
+import com.tommasoamadori.pokedex.cache.NegativeCache;
+import com.tommasoamadori.pokedex.cache.TwoTierCache;
+import com.tommasoamadori.pokedex.client.UpstreamInvoker;
 import com.tommasoamadori.pokedex.client.api.pokeapi.PokeApiClient;
-import com.tommasoamadori.pokedex.constant.Language;
-import com.tommasoamadori.pokedex.dto.request.funtranslations.TranslateRequest;
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import com.tommasoamadori.pokedex.constant.Upstream;
+import com.tommasoamadori.pokedex.deadline.DeadlineConfiguration;
+import com.tommasoamadori.pokedex.deadline.DeadlineContext;
 import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
-import com.tommasoamadori.pokedex.dto.response.funtranslations.FunTranslationsResponse;
-import com.tommasoamadori.pokedex.dto.response.funtranslations.model.TranslationContentModel;
+import com.tommasoamadori.pokedex.dto.response.TeamSummaryResponse;
 import com.tommasoamadori.pokedex.dto.response.pokeapi.PokeApiResponse;
 import com.tommasoamadori.pokedex.exception.NoValidFlavorTextException;
 import com.tommasoamadori.pokedex.exception.PokemonNotFoundException;
 import com.tommasoamadori.pokedex.exception.UnexpectedResponseBodyException;
+import com.tommasoamadori.pokedex.profiling.EventSizes;
+import com.tommasoamadori.pokedex.profiling.SpeciesFetchEvent;
+import com.tommasoamadori.pokedex.profiling.TranslationCallEvent;
+import com.tommasoamadori.pokedex.snapshot.SpeciesEntry;
+import com.tommasoamadori.pokedex.snapshot.SpeciesSnapshotStore;
+import com.tommasoamadori.pokedex.tracing.SpanTracer;
+import com.tommasoamadori.pokedex.translation.FunTranslationsEngine;
+import com.tommasoamadori.pokedex.translation.LocalTranslationEngine;
+import com.tommasoamadori.pokedex.translation.TranslationConfiguration;
+import com.tommasoamadori.pokedex.translation.TranslationEngine;
+import com.tommasoamadori.pokedex.translation.TranslationRouter;
 import io.micronaut.context.annotation.Primary;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 /**
  * Service responsible for retrieving Pokémon information.
@@ -31,14 +62,44 @@ import java.util.function.Function;
 @RequiredArgsConstructor
 public class PokemonService implements PokemonBaseService {
 
+    // Team members are looked up on their own pool, so a team cannot take the threads of the single lookups
+    public static final String TEAM_EXECUTOR = "pokemon-team";
+
     private final PokeApiClient pokeApiClient;
-    private final FunTranslationsClient funTranslationsClient;
+    private final TwoTierCache cache;
+    private final CacheConfiguration cacheConfiguration;
+    private final NegativeCache negativeCache;
+    private final PokemonNameResolver nameResolver;
+    private final PokeApiSpeciesMapper speciesMapper;
+    private final SpeciesSnapshotStore snapshotStore;
+    private final PrefetchConfiguration prefetchConfiguration;
+    private final UpstreamInvoker upstreamInvoker;
+    private final TranslationConfiguration translationConfiguration;
+    private final TranslationRouter translationRouter;
+    @Named(FunTranslationsEngine.NAME)
+    private final TranslationEngine remoteTranslationEngine;
+    @Named(LocalTranslationEngine.NAME)
+    private final TranslationEngine localTranslationEngine;
+    private final DeadlineConfiguration deadlineConfiguration;
+    private final SpanTracer spanTracer;
+    @Named(TaskExecutors.BLOCKING)
+    private final ExecutorService executorService;
+    @Named(TEAM_EXECUTOR)
+    private final ExecutorService teamExecutorService;
+
+    private final Map<String, Boolean> inFlightPrefetches = new ConcurrentHashMap<>();
+    private Semaphore prefetchPermits;
+
+    @PostConstruct
+    void init() {
+        prefetchPermits = new Semaphore(prefetchConfiguration.maxInFlight());
+    }
 
     /**
      * Retrieves information about a Pokémon, including its name,
      * habitat, description, and legendary status.
      *
-     * @param name The name of the Pokémon to retrieve.
+     * @param name The name or national dex number of the Pokémon to retrieve.
      * @return A {@link PokemonInfoResponse} containing the Pokémon details.
      * @throws NoValidFlavorTextException if no English flavor text is found.
      * @throws UnexpectedResponseBodyException if the API response is invalid.
@@ -46,7 +107,7 @@ public class PokemonService implements PokemonBaseService {
      */
     @Override
     public PokemonInfoResponse getPokemonInfo(String name) {
-        return retrievePokemonInfo(name);
+        return retrievePokemonInfo(nameResolver.resolve(name));
     }
 
     /**
@@ -56,34 +117,206 @@ public class PokemonService implements PokemonBaseService {
      * <p>
      * Translation rules:
      * <ol>
-     *     <li>If the Pokémon's habitat is "cave" or it is legendary, apply the Yoda translation.</li>
-     *     <li>Otherwise, apply the Shakespeare translation.</li>
+     *     <li>The translation style is chosen by the {@link TranslationRouter} rules; by default Yoda for cave
+     *     and legendary Pokémon, Shakespeare for the others.</li>
+     *     <li>The translation engines are combined according to the configured {@link TranslationConfiguration#policy()}.</li>
      *     <li>If translation fails, the original description is returned.</li>
+     *     <li>If the request deadline leaves too little time to translate remotely, the original description is returned.</li>
      * </ol>
      * </p>
      *
-     * @param name The name of the Pokémon to retrieve.
+     * @param name The name or national dex number of the Pokémon to retrieve.
      * @return A {@link PokemonInfoResponse} containing the Pokémon details with translated description.
      */
     @Override
     public PokemonInfoResponse getTranslatedPokemonInfo(String name) {
-        PokemonInfoResponse pokemonInfoResponse = retrievePokemonInfo(name);
+        return getTranslatedPokemonInfoWithOutcome(name).info();
+    }
+
+    /**
+     * Same as {@link #getTranslatedPokemonInfo(String)}, also reporting whether the description fell back
+     * to a local translation or to the original text, e.g. to avoid caching a degraded response.
+     *
+     * @param name The name or national dex number of the Pokémon to retrieve.
+     * @return A {@link TranslatedPokemonInfo} with the Pokémon details and whether the translation fell back.
+     */
+    @Override
+    public TranslatedPokemonInfo getTranslatedPokemonInfoWithOutcome(String name) {
+        final String pokemonName = nameResolver.resolve(name);
+        final Optional<SpeciesEntry> knownSpecies = snapshotStore.find(pokemonName);
+
+        final TranslatedPokemonInfo translatedPokemonInfo = knownSpecies.isPresent() && prefetchConfiguration.speculative()
+                ? translateSpeculatively(pokemonName, knownSpecies.get().info())
+                : translate(retrievePokemonInfo(pokemonName));
 
-        Optional<String> oTranslation = tryTranslateDescription(pokemonInfoResponse);
+        knownSpecies.map(SpeciesEntry::id).ifPresent(this::prefetchNeighbours);
 
-        oTranslation.ifPresent((translation) -> {
-            log.info("Successfully retrieved translation for {}", name);
-            pokemonInfoResponse.setDescription(translation);
+        return translatedPokemonInfo;
+    }
+
+    /**
+     * Retrieves a team of Pokémon in one pass and aggregates their characteristics.
+     *
+     * <p>
+     * Every distinct species is retrieved concurrently, and its translation starts as soon as its data is available,
+     * so the whole team takes about as long as its slowest member. Names resolving to the same species,
+     * e.g. a name and its dex number, are retrieved once.
+     * </p>
+     *
+     * @param names      The names or national dex numbers of the members.
+     * @param translated Whether to translate the descriptions too, as {@link #getTranslatedPokemonInfo(String)} does.
+     * @return A {@link TeamSummaryResponse} with the members found and the names not matching any Pokémon.
+     */
+    @Override
+    public TeamSummaryResponse getTeamSummary(List<String> names, boolean translated) {
+        final Map<String, String> requestedBySpecies = new LinkedHashMap<>();
+        final List<String> notFound = new ArrayList<>();
+        names.forEach(name -> {
+            try {
+                requestedBySpecies.putIfAbsent(nameResolver.resolve(name), name);
+            } catch (PokemonNotFoundException e) {
+                notFound.add(name);
+            }
         });
 
-        return pokemonInfoResponse;
+        final Map<String, CompletableFuture<TeamSummaryResponse.Member>> lookups = new LinkedHashMap<>();
+        requestedBySpecies.keySet().forEach(species -> {
+            final Supplier<TeamSummaryResponse.Member> lookup = () -> {
+                final PokemonInfoResponse pokemonInfo = retrievePokemonInfo(species);
+                return new TeamSummaryResponse.Member(pokemonInfo, translated ? translate(pokemonInfo).info().description() : null);
+            };
+
+            lookups.put(species, CompletableFuture.supplyAsync(PropagatedContext.wrapCurrent(lookup), teamExecutorService));
+        });
+
+        final List<TeamSummaryResponse.Member> members = new ArrayList<>();
+        try {
+            lookups.forEach((species, lookup) -> {
+                try {
+                    members.add(lookup.join());
+                } catch (CompletionException e) {
+                    if (!(e.getCause() instanceof PokemonNotFoundException)) {
+                        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+                    }
+                    notFound.add(requestedBySpecies.get(species));
+                }
+            });
+        } catch (RuntimeException e) {
+            lookups.values().forEach(lookup -> lookup.cancel(true));
+            throw e;
+        }
+
+        final Map<String, Integer> habitats = new LinkedHashMap<>();
+        members.stream()
+                .map(member -> member.info().habitat())
+                .filter(Objects::nonNull)
+                .forEach(habitat -> habitats.merge(habitat, 1, Integer::sum));
+        final int legendaryCount = (int) members.stream()
+                .filter(member -> Boolean.TRUE.equals(member.info().isLegendary()))
+                .count();
+
+        return new TeamSummaryResponse(members, notFound, legendaryCount, habitats);
+    }
+
+    private TranslatedPokemonInfo translate(PokemonInfoResponse pokemonInfoResponse) {
+        return withTranslation(pokemonInfoResponse, tryTranslateDescription(pokemonInfoResponse));
+    }
+
+    /**
+     * Starts the translation of the snapshot description while the species data is retrieved,
+     * and keeps it only if the retrieved data still leads to the same translation request.
+     *
+     * <p>
+     * A discarded speculative translation is not interrupted, since a {@link CompletableFuture} cannot interrupt
+     * its task: it completes in background, bounded by the request deadline, and only warms the translation cache.
+     * </p>
+     */
+    private TranslatedPokemonInfo translateSpeculatively(String name, PokemonInfoResponse snapshotInfo) {
+        final Supplier<Optional<Translation>> translation = () -> tryTranslateDescription(snapshotInfo);
+        final CompletableFuture<Optional<Translation>> speculativeTranslation =
+                CompletableFuture.supplyAsync(PropagatedContext.wrapCurrent(translation), executorService);
+
+        final PokemonInfoResponse pokemonInfoResponse = retrievePokemonInfo(name);
+
+        final boolean isSameTranslationRequest =
+                Objects.equals(snapshotInfo.description(), pokemonInfoResponse.description())
+                        && translationRouter.styleOf(snapshotInfo) == translationRouter.styleOf(pokemonInfoResponse);
+
+        if (!isSameTranslationRequest) {
+            log.info("Species data of {} changed, discarding speculative translation", name);
+            return translate(pokemonInfoResponse);
+        }
+
+        return withTranslation(pokemonInfoResponse, speculativeTranslation.join());
+    }
+
+    private TranslatedPokemonInfo withTranslation(PokemonInfoResponse pokemonInfoResponse, Optional<Translation> oTranslation) {
+        return oTranslation.map((translation) -> {
+            log.info("Successfully retrieved translation for {}", pokemonInfoResponse.name());
+            return new TranslatedPokemonInfo(pokemonInfoResponse.withDescription(translation.text()), translation.fallback());
+        }).orElseGet(() -> new TranslatedPokemonInfo(pokemonInfoResponse, true));
+    }
+
+    /**
+     * Translates in the background the species that follow the requested one in the national dex,
+     * since clients browsing the Pokédex are likely to request them next.
+     */
+    private void prefetchNeighbours(Integer dexNumber) {
+        if (dexNumber == null) {
+            return;
+        }
+
+        for (int offset = 1; offset <= prefetchConfiguration.neighbours(); offset++) {
+            final String neighbour = nameResolver.nameOf(dexNumber + offset).orElse(Integer.toString(dexNumber + offset));
+
+            if (inFlightPrefetches.putIfAbsent(neighbour, Boolean.TRUE) != null) {
+                continue;
+            }
+            if (!prefetchPermits.tryAcquire()) {
+                inFlightPrefetches.remove(neighbour);
+                return;
+            }
+
+            CompletableFuture.runAsync(() -> {
+                try {
+                    translate(retrievePokemonInfo(nameResolver.resolve(neighbour)));
+                    log.debug("Prefetched translation of {}", neighbour);
+                } catch (Exception e) {
+                    log.debug("Unable to prefetch translation of {}: {}", neighbour, e.getMessage());
+                } finally {
+                    prefetchPermits.release();
+                    inFlightPrefetches.remove(neighbour);
+                }
+            }, executorService);
+        }
     }
 
     private PokemonInfoResponse retrievePokemonInfo(String name) {
-        HttpResponse<PokeApiResponse> pokemonInfoResponse = pokeApiClient.getPokemonInfo(name);
+        return spanTracer.inSpan("PokemonService.retrievePokemonInfo", "pokemon.name", name, () -> {
+            if (negativeCache.isKnownMissing(name)) {
+                log.info("Pokémon {} is known to be missing, skipping PokeAPI", name);
+                throw new PokemonNotFoundException(name);
+            }
 
-        PokeApiResponse pokemonInfo = pokemonInfoResponse.getBody().orElseThrow(() -> {
-            if(pokemonInfoResponse.code() == HttpStatus.NOT_FOUND.getCode()) {
+            try {
+                return cache.getOrLoad(
+                        CacheKeys.info(name),
+                        PokemonInfoResponse.class,
+                        cacheConfiguration.infoTtl(),
+                        () -> fetchPokemonInfo(name)
+                );
+            } catch (PokemonNotFoundException e) {
+                negativeCache.markMissing(name);
+                throw e;
+            }
+        });
+    }
+
+    private PokemonInfoResponse fetchPokemonInfo(String name) {
+        final HttpResponse<PokeApiResponse> pokeApiResponse = invokePokeApi(name);
+
+        PokeApiResponse pokemonInfo = pokeApiResponse.getBody().orElseThrow(() -> {
+            if(pokeApiResponse.code() == HttpStatus.NOT_FOUND.getCode()) {
                 log.error("Pokémon {} not found", name);
                 return new PokemonNotFoundException(name);
             }
@@ -92,54 +325,127 @@ public class PokemonService implements PokemonBaseService {
             return new UnexpectedResponseBodyException(PokeApiClient.class.getSimpleName());
         });
 
-        String pokemonDescription = pokemonInfo.flavorTextEntries().stream()
-                .filter(flavorTextModel -> flavorTextModel.language().name().equals(Language.EN.getCode()))
-                .findAny()
-                .orElseThrow(() -> {
-                    log.error("No valid flavor text found");
-                    return new NoValidFlavorTextException();
-                })
-                .flavorText()
-                .replaceAll("\\p{C}", " ");
-        String pokemonName = pokemonInfo.name();
-        String pokemonHabitatName = pokemonInfo.habitat().name();
-        Boolean isLegendaryPokemon = pokemonInfo.isLegendary();
+        PokemonInfoResponse pokemonInfoResponse = speciesMapper.toPokemonInfo(pokemonInfo);
+        nameResolver.register(pokemonInfo.id(), pokemonInfoResponse.name());
+        // A species can be found by its dex number while its name is still marked missing, e.g. just after its release
+        negativeCache.forget(pokemonInfoResponse.name());
 
         log.info("Retrieved {} information", name);
 
-        return PokemonInfoResponse
-                .builder()
-                .name(pokemonName)
-                .habitat(pokemonHabitatName)
-                .description(pokemonDescription)
-                .isLegendary(isLegendaryPokemon)
-                .build();
+        snapshotStore.record(pokemonInfo.id(), pokemonInfoResponse, pokeApiResponse.header(HttpHeaders.ETAG));
+
+        return pokemonInfoResponse;
     }
 
-    private Optional<String> tryTranslateDescription(PokemonInfoResponse pokemonInfo) {
+    /**
+     * Calls PokeAPI, recording the call as a {@link SpeciesFetchEvent} whatever its outcome,
+     * so that failures and expired deadlines show up in the recording too.
+     */
+    private HttpResponse<PokeApiResponse> invokePokeApi(String name) {
+        final SpeciesFetchEvent fetchEvent = new SpeciesFetchEvent();
+        fetchEvent.begin();
+        HttpResponse<PokeApiResponse> pokeApiResponse = null;
         try {
-            return fetchTranslation(pokemonInfo).getBody()
-                    .map(FunTranslationsResponse::contents)
-                    .map(TranslationContentModel::translated);
+            pokeApiResponse = upstreamInvoker.invoke(Upstream.POKEAPI, () -> pokeApiClient.getPokemonInfo(name));
+            return pokeApiResponse;
+        } catch (RuntimeException e) {
+            fetchEvent.failure = e.getClass().getSimpleName();
+            if (e instanceof HttpClientResponseException responseException) {
+                fetchEvent.status = responseException.code();
+            }
+            throw e;
+        } finally {
+            fetchEvent.end();
+            if (fetchEvent.shouldCommit()) {
+                fetchEvent.species = name;
+                if (pokeApiResponse != null) {
+                    fetchEvent.status = pokeApiResponse.code();
+                    fetchEvent.payloadSize = payloadSize(pokeApiResponse);
+                }
+                fetchEvent.commit();
+            }
+        }
+    }
+
+    /**
+     * The size of the decoded body, since PokeAPI sends chunked and compressed responses without a Content-Length.
+     */
+    private static long payloadSize(HttpResponse<?> response) {
+        try {
+            return response.getBody(byte[].class)
+                    .map(body -> (long) body.length)
+                    .orElseGet(response::getContentLength);
+        } catch (RuntimeException e) {
+            return response.getContentLength();
+        }
+    }
+
+    private Optional<Translation> tryTranslateDescription(PokemonInfoResponse pokemonInfo) {
+        final TranslationStyle style = translationRouter.route(pokemonInfo);
+
+        // Local translations are cheap and never cached, so they do not hide a later remote translation
+        return switch (translationConfiguration.policy()) {
+            case LOCAL_ONLY -> localTranslationEngine.translate(style, pokemonInfo.description()).map(Translation::primary);
+            case REMOTE_ONLY -> tryTranslateRemotely(pokemonInfo, style).map(Translation::primary);
+            case REMOTE_WITH_LOCAL_FALLBACK -> tryTranslateRemotely(pokemonInfo, style)
+                    .map(Translation::primary)
+                    .or(() -> localTranslationEngine.translate(style, pokemonInfo.description()).map(Translation::fallback));
+        };
+    }
+
+    private Optional<String> tryTranslateRemotely(PokemonInfoResponse pokemonInfo, TranslationStyle style) {
+        // Failed translations are not cached, so they are retried on the next request
+        return Optional.ofNullable(cache.getOrLoad(
+                CacheKeys.translation(style.getCode(), pokemonInfo.name(), pokemonInfo.description()),
+                String.class,
+                cacheConfiguration.translationTtl(),
+                () -> translateDescription(pokemonInfo, style).orElse(null)
+        ));
+    }
+
+    private Optional<String> translateDescription(PokemonInfoResponse pokemonInfo, TranslationStyle style) {
+        final boolean hasTranslationBudget = DeadlineContext.current()
+                .map(deadline -> deadline.hasAtLeast(deadlineConfiguration.minTranslationBudget()))
+                .orElse(true);
+        if (!hasTranslationBudget) {
+            log.warn("Not enough time left to translate {}, keeping the original description", pokemonInfo.name());
+            return Optional.empty();
+        }
+
+        TranslationCallEvent translationEvent = new TranslationCallEvent();
+        translationEvent.begin();
+        Optional<String> translation = Optional.empty();
+        try {
+            translation = remoteTranslationEngine.translate(style, pokemonInfo.description());
         } catch(Exception e) {
             log.error("Something went wrong during translation: {}", e.getMessage());
+        } finally {
+            translationEvent.end();
+            if (translationEvent.shouldCommit()) {
+                translationEvent.species = pokemonInfo.name();
+                translationEvent.style = style.getCode();
+                translationEvent.textSize = EventSizes.utf8Length(pokemonInfo.description());
+                translationEvent.translationSize = translation.map(EventSizes::utf8Length).orElse(0L);
+                translationEvent.translated = translation.isPresent();
+                translationEvent.commit();
+            }
         }
 
-        return Optional.empty();
+        return translation;
     }
 
-    private HttpResponse<FunTranslationsResponse> fetchTranslation(PokemonInfoResponse pokemonInfo) {
-        final boolean shouldUseYodaTranslation = Objects.equals(pokemonInfo.getHabitat(), "cave") || pokemonInfo.getIsLegendary();
-        final TranslateRequest requestBody = new TranslateRequest(pokemonInfo.getDescription());
-
-        Function<TranslateRequest, HttpResponse<FunTranslationsResponse>> translationFunction =
-                shouldUseYodaTranslation
-                        ? funTranslationsClient::translateYoda
-                        : funTranslationsClient::translateShakespeare;
+    /**
+     * @param text     The translated description.
+     * @param fallback Whether it comes from the fallback engine of the policy rather than the configured one.
+     */
+    private record Translation(String text, boolean fallback) {
 
-        log.info("Retrieving {} translation",
-                shouldUseYodaTranslation ? "yoda" : "shakespeare");
+        static Translation primary(String text) {
+            return new Translation(text, false);
+        }
 
-        return translationFunction.apply(requestBody);
+        static Translation fallback(String text) {
+            return new Translation(text, true);
+        }
     }
 }
@@ -0,0 +1,18 @@
+package com.tommasoamadori.pokedex.service;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+/**
+ * Configuration of the speculative work done on the translated path.
+ *
+ * @param speculative Whether to start the translation of an already known species in parallel with its retrieval.
+ * @param neighbours  How many following species, by national dex number, to translate in the background (0 disables it).
+ * @param maxInFlight Maximum number of background prefetches running at the same time.
+ */
+@ConfigurationProperties("pokedex.translation.prefetch")
+public record PrefetchConfiguration(
+        @Bindable(defaultValue = "true") boolean speculative,
+        @Bindable(defaultValue = "0") int neighbours,
+        @Bindable(defaultValue = "4") int maxInFlight
+) { }
@@ -0,0 +1,20 @@
+package com.tommasoamadori.pokedex.service;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the background revalidation of the species snapshot.
+ *
+ * @param enabled   Whether the snapshot is revalidated in background.
+ * @param interval  Delay between two refresh runs.
+ * @param batchSize Maximum number of species revalidated by a single run, species are visited round-robin.
+ */
+@ConfigurationProperties("pokedex.snapshot.refresh")
+public record RefreshConfiguration(
+        @Bindable(defaultValue = "true") boolean enabled,
+        @Bindable(defaultValue = "1h") Duration interval,
+        @Bindable(defaultValue = "100") int batchSize
+) { }
@@ -0,0 +1,19 @@
+package com.tommasoamadori.pokedex.service;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.util.Map;
+
+/**
+ * Configuration of the Pokémon name resolution.
+ *
+ * @param maxDexNumber The highest national dex number accepted as identifier.
+ * @param aliases      Additional names mapped to their canonical species name.
+ */
+@ConfigurationProperties("pokedex.resolver")
+public record ResolverConfiguration(
+        @Bindable(defaultValue = "2048") int maxDexNumber,
+        @Nullable Map<String, String> aliases
+) { }
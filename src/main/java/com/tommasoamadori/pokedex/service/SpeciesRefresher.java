@@ -0,0 +1,131 @@
+package com.tommasoamadori.pokedex.service;
+
+import com.tommasoamadori.pokedex.cache.CacheKeys;
+import com.tommasoamadori.pokedex.cache.TwoTierCache;
+import com.tommasoamadori.pokedex.client.UpstreamInvoker;
+import com.tommasoamadori.pokedex.client.api.pokeapi.PokeApiClient;
+import com.tommasoamadori.pokedex.constant.Upstream;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.PokeApiResponse;
+import com.tommasoamadori.pokedex.snapshot.SpeciesEntry;
+import com.tommasoamadori.pokedex.snapshot.SpeciesSnapshot;
+import com.tommasoamadori.pokedex.snapshot.SpeciesSnapshotStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Keeps the species snapshot fresh without re-downloading it.
+ *
+ * <p>
+ * Every run revalidates a batch of known species, round-robin, with a conditional request on the stored ETag:
+ * unchanged species cost a bodiless 304. When PokeAPI does not honour the ETag, the mapped content is compared instead.
+ * Only the changed species are written, all at once as a new snapshot version, so readers never see a half-applied
+ * refresh. Species whose ETag changed but whose content did not are written too, so the next run can use the new ETag,
+ * but keep their cached information.
+ * </p>
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+@Requires(property = "pokedex.snapshot.refresh.enabled", notEquals = StringUtils.FALSE)
+public class SpeciesRefresher {
+
+    private final PokeApiClient pokeApiClient;
+    private final UpstreamInvoker upstreamInvoker;
+    private final PokeApiSpeciesMapper speciesMapper;
+    private final SpeciesSnapshotStore snapshotStore;
+    private final TwoTierCache cache;
+    private final RefreshConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+
+    // Runs never overlap, so the position needs no synchronization
+    private int position;
+
+    @Scheduled(fixedDelay = "${pokedex.snapshot.refresh.interval:1h}", initialDelay = "${pokedex.snapshot.refresh.interval:1h}")
+    void refresh() {
+        final SpeciesSnapshot snapshot = snapshotStore.current();
+        final List<String> names = snapshot.entries().keySet().stream().sorted().toList();
+        if (names.isEmpty()) {
+            return;
+        }
+
+        final int batchSize = Math.min(configuration.batchSize(), names.size());
+        final Map<String, SpeciesEntry> changedEntries = new HashMap<>();
+        final Set<String> changedContents = new HashSet<>();
+        final Set<String> changedEtags = new HashSet<>();
+        int failures = 0;
+
+        for (int i = 0; i < batchSize; i++) {
+            final String name = names.get((position + i) % names.size());
+            final SpeciesEntry entry = snapshot.entries().get(name);
+            try {
+                revalidate(name, entry).ifPresent(freshEntry -> {
+                    changedEntries.put(name, freshEntry);
+                    if (!Objects.equals(freshEntry.info(), entry.info())) {
+                        changedContents.add(name);
+                    } else {
+                        changedEtags.add(name);
+                    }
+                });
+            } catch (RuntimeException e) {
+                failures++;
+                log.warn("Unable to revalidate {}: {}", name, e.getMessage());
+            }
+        }
+        position = (position + batchSize) % names.size();
+
+        if (snapshotStore.apply(changedEntries)) {
+            changedContents.forEach(name -> cache.invalidate(CacheKeys.info(name)));
+        }
+
+        meterRegistry.counter("pokedex.snapshot.refresh.revalidated", "result", "unchanged").increment(batchSize - changedEntries.size() - failures);
+        meterRegistry.counter("pokedex.snapshot.refresh.revalidated", "result", "changed").increment(changedContents.size());
+        meterRegistry.counter("pokedex.snapshot.refresh.revalidated", "result", "etag-changed").increment(changedEtags.size());
+        meterRegistry.counter("pokedex.snapshot.refresh.revalidated", "result", "failed").increment(failures);
+        log.info("Revalidated {} species: {} changed, {} with a new ETag only, {} failed",
+                batchSize, changedContents.size(), changedEtags.size(), failures);
+    }
+
+    /**
+     * @return The fresh entry of the species, empty if it did not change.
+     */
+    private Optional<SpeciesEntry> revalidate(String name, SpeciesEntry entry) {
+        final HttpResponse<PokeApiResponse> response = upstreamInvoker.invoke(
+                Upstream.POKEAPI,
+                () -> pokeApiClient.getPokemonInfoIfChanged(name, entry.etag())
+        );
+
+        if (response.code() == HttpStatus.NOT_MODIFIED.getCode()) {
+            return Optional.empty();
+        }
+
+        final Optional<PokeApiResponse> body = response.getBody();
+        if (body.isEmpty()) {
+            log.warn("PokeAPI returned {} without body while revalidating {}, keeping the known data", response.code(), name);
+            return Optional.empty();
+        }
+
+        final SpeciesEntry freshEntry = new SpeciesEntry(
+                body.get().id(),
+                speciesMapper.toPokemonInfo(body.get()),
+                response.header(HttpHeaders.ETAG)
+        );
+
+        return freshEntry.equals(entry) ? Optional.empty() : Optional.of(freshEntry);
+    }
+}
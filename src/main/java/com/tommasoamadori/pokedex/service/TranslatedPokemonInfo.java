@@ -0,0 +1,12 @@
+package com.tommasoamadori.pokedex.service;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+
+/**
+ * Outcome of a translated Pokémon information lookup.
+ *
+ * @param info     The Pokémon information with the description to return.
+ * @param fallback Whether the configured translation was not available and the description fell back
+ *                 to a local translation or to the original text.
+ */
+public record TranslatedPokemonInfo(PokemonInfoResponse info, boolean fallback) { }
@@ -0,0 +1,30 @@
+package com.tommasoamadori.pokedex.snapshot;
+
+import com.tommasoamadori.pokedex.cache.CacheKeys;
+import com.tommasoamadori.pokedex.cache.TwoTierCache;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Write;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Management endpoint rolling back the last bulk update of the species snapshot, e.g. a refresh that brought in bad
+ * upstream data. It is sensitive by default, since it changes what the service answers.
+ */
+@Endpoint(id = "snapshot")
+@RequiredArgsConstructor
+public class SnapshotEndpoint {
+
+    private final SpeciesSnapshotStore snapshotStore;
+    private final TwoTierCache cache;
+
+    @Write
+    public SnapshotRollback rollback() {
+        final Set<String> reverted = snapshotStore.rollback();
+        reverted.forEach(name -> cache.invalidate(CacheKeys.info(name)));
+
+        return new SnapshotRollback(snapshotStore.current().version(), new TreeSet<>(reverted));
+    }
+}
@@ -0,0 +1,15 @@
+package com.tommasoamadori.pokedex.snapshot;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.SortedSet;
+
+/**
+ * Outcome of a snapshot rollback.
+ *
+ * @param version         The snapshot version after the rollback.
+ * @param revertedSpecies The species reverted, empty if there was no update to roll back.
+ */
+@Serdeable
+public record SnapshotRollback(long version, SortedSet<String> revertedSpecies) {
+}
@@ -0,0 +1,13 @@
+package com.tommasoamadori.pokedex.snapshot;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * A species known to the service.
+ *
+ * @param id   The national dex number, if known.
+ * @param info The Pokémon information as last retrieved from PokeAPI.
+ * @param etag The entity tag PokeAPI returned with it, used to revalidate the species, if any.
+ */
+public record SpeciesEntry(Integer id, PokemonInfoResponse info, @Nullable String etag) { }
@@ -0,0 +1,39 @@
+package com.tommasoamadori.pokedex.snapshot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable, versioned view of the species known to the service.
+ *
+ * @param version Incremented on every change.
+ * @param entries The species keyed by canonical name.
+ */
+public record SpeciesSnapshot(long version, Map<String, SpeciesEntry> entries) {
+
+    public SpeciesSnapshot {
+        entries = Map.copyOf(entries);
+    }
+
+    public static SpeciesSnapshot empty() {
+        return new SpeciesSnapshot(0, Map.of());
+    }
+
+    public Optional<SpeciesEntry> find(String name) {
+        return Optional.ofNullable(entries.get(name));
+    }
+
+    SpeciesSnapshot withAll(Map<String, SpeciesEntry> changedEntries) {
+        return withAll(changedEntries, Set.of());
+    }
+
+    SpeciesSnapshot withAll(Map<String, SpeciesEntry> changedEntries, Set<String> removedNames) {
+        final Map<String, SpeciesEntry> newEntries = new HashMap<>(entries);
+        newEntries.putAll(changedEntries);
+        newEntries.keySet().removeAll(removedNames);
+
+        return new SpeciesSnapshot(version + 1, newEntries);
+    }
+}
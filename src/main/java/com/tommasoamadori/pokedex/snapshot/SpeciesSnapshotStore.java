@@ -0,0 +1,188 @@
+package com.tommasoamadori.pokedex.snapshot;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the local snapshot of the species retrieved so far.
+ * Readers always see a consistent snapshot; writers swap in a new one atomically, only when something changed.
+ *
+ * <p>
+ * A new version copies the whole snapshot, so recorded species are batched: they are queued, and the first writer
+ * taking the write lock applies every queued species in a single copy, while the others find their species already
+ * applied once they get the lock. A burst of concurrent records costs one copy instead of one each.
+ * </p>
+ *
+ * <p>
+ * The snapshot replaced by the last bulk update is kept, so that update can be rolled back. A rollback reverts only
+ * the species that update changed, and leaves alone the ones recorded again since.
+ * </p>
+ */
+@Slf4j
+@Singleton
+public class SpeciesSnapshotStore {
+
+    private final AtomicReference<SpeciesSnapshot> current = new AtomicReference<>(SpeciesSnapshot.empty());
+    private final Map<String, SpeciesEntry> pending = new ConcurrentHashMap<>();
+    private final Lock writeLock = new ReentrantLock();
+
+    // Guarded by the write lock
+    private SpeciesSnapshot previous;
+    private Map<String, SpeciesEntry> previouslyApplied = Map.of();
+
+    public SpeciesSnapshot current() {
+        flushPending();
+        return current.get();
+    }
+
+    public Optional<SpeciesEntry> find(String name) {
+        return current().find(name);
+    }
+
+    /**
+     * Records the latest information about a species, visible to the readers once this method returns.
+     *
+     * @param id   The national dex number.
+     * @param info The Pokémon information.
+     * @param etag The entity tag returned by PokeAPI, if any.
+     */
+    public void record(Integer id, PokemonInfoResponse info, @Nullable String etag) {
+        pending.put(info.name(), new SpeciesEntry(id, info, etag));
+
+        // Always locked, since another writer may have taken the entry and not swapped it in yet
+        writeLock.lock();
+        try {
+            drainPending();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Applies a batch of changed entries as a single new snapshot version, keeping the replaced one for rollback.
+     * Entries equal to the current ones are ignored, so an unchanged batch does not create a new version.
+     *
+     * @param changedEntries The changed species keyed by canonical name.
+     * @return Whether a new snapshot was swapped in.
+     */
+    public boolean apply(Map<String, SpeciesEntry> changedEntries) {
+        writeLock.lock();
+        try {
+            drainPending();
+            final SpeciesSnapshot replaced = current.get();
+            final Map<String, SpeciesEntry> changes = swapIn(changedEntries);
+            if (changes.isEmpty()) {
+                return false;
+            }
+
+            previous = replaced;
+            previouslyApplied = changes;
+            log.info("Applied {} changed species as snapshot version {}", changes.size(), current.get().version());
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Reverts the species changed by the last bulk update to their entries in the snapshot it replaced, as a new
+     * version. A species recorded again since that update keeps its newer entry.
+     *
+     * @return The canonical names of the reverted species, empty if there was no update to roll back.
+     */
+    public Set<String> rollback() {
+        writeLock.lock();
+        try {
+            drainPending();
+            if (previous == null) {
+                return Set.of();
+            }
+
+            final SpeciesSnapshot snapshot = current.get();
+            final Map<String, SpeciesEntry> restored = new HashMap<>();
+            final Set<String> removed = new HashSet<>();
+            previouslyApplied.forEach((name, applied) -> {
+                if (snapshot.find(name).filter(applied::equals).isEmpty()) {
+                    return;
+                }
+                previous.find(name).ifPresentOrElse(entry -> restored.put(name, entry), () -> removed.add(name));
+            });
+
+            final long restoredVersion = previous.version();
+            previous = null;
+            previouslyApplied = Map.of();
+
+            final Set<String> reverted = new HashSet<>(restored.keySet());
+            reverted.addAll(removed);
+            if (!reverted.isEmpty()) {
+                current.set(snapshot.withAll(restored, removed));
+                log.warn("Rolled back {} species to their entries of version {} as version {}",
+                        reverted.size(), restoredVersion, current.get().version());
+            }
+
+            return reverted;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            drainPending();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Swaps in every queued species as a single version, under the write lock.
+     */
+    private void drainPending() {
+        final Map<String, SpeciesEntry> batch = new HashMap<>();
+        pending.forEach((name, entry) -> {
+            // A species recorded again meanwhile stays queued with its newer entry
+            if (pending.remove(name, entry)) {
+                batch.put(name, entry);
+            }
+        });
+        swapIn(batch);
+    }
+
+    /**
+     * Swaps in a new version with the entries differing from the current ones, under the write lock.
+     *
+     * @return The entries actually changed.
+     */
+    private Map<String, SpeciesEntry> swapIn(Map<String, SpeciesEntry> entries) {
+        final SpeciesSnapshot snapshot = current.get();
+        final Map<String, SpeciesEntry> changes = new HashMap<>();
+        entries.forEach((name, entry) -> {
+            if (snapshot.find(name).filter(entry::equals).isEmpty()) {
+                changes.put(name, entry);
+            }
+        });
+
+        if (!changes.isEmpty()) {
+            current.set(snapshot.withAll(changes));
+        }
+
+        return changes;
+    }
+}
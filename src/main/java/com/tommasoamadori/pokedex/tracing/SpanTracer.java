@@ -0,0 +1,63 @@
+package com.tommasoamadori.pokedex.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import jakarta.inject.Singleton;
+
+import java.util.function.Supplier;
+
+/**
+ * Wraps internal steps in OpenTelemetry spans, children of the current span.
+ * Server and HTTP client spans are created by Micronaut; these fill the gaps between them,
+ * including private methods that annotation-based tracing cannot intercept.
+ */
+@Singleton
+public class SpanTracer {
+
+    private static final String INSTRUMENTATION_NAME = "com.tommasoamadori.pokedex";
+
+    private final Tracer tracer;
+
+    public SpanTracer(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+    }
+
+    /**
+     * Runs a step in a new span, recording its failure, if any.
+     *
+     * @param spanName The name of the span.
+     * @param step     The step to run.
+     * @return The result of the step.
+     */
+    public <T> T inSpan(String spanName, Supplier<T> step) {
+        return inSpan(tracer.spanBuilder(spanName).startSpan(), step);
+    }
+
+    /**
+     * Runs a step in a new span with an attribute, recording its failure, if any.
+     *
+     * @param spanName       The name of the span.
+     * @param attributeKey   The attribute key.
+     * @param attributeValue The attribute value.
+     * @param step           The step to run.
+     * @return The result of the step.
+     */
+    public <T> T inSpan(String spanName, String attributeKey, String attributeValue, Supplier<T> step) {
+        return inSpan(tracer.spanBuilder(spanName).setAttribute(attributeKey, attributeValue).startSpan(), step);
+    }
+
+    private static <T> T inSpan(Span span, Supplier<T> step) {
+        try (Scope ignored = span.makeCurrent()) {
+            return step.get();
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
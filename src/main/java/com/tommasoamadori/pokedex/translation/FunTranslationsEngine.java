@@ -0,0 +1,27 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Remote engine backed by FunTranslations, through the {@link TranslationBatcher}.
+ * Every call may consume quota and fails when FunTranslations is unavailable or rate limited.
+ */
+@Singleton
+@Named(FunTranslationsEngine.NAME)
+@RequiredArgsConstructor
+public class FunTranslationsEngine implements TranslationEngine {
+
+    public static final String NAME = "funtranslations";
+
+    private final TranslationBatcher translationBatcher;
+
+    @Override
+    public Optional<String> translate(TranslationStyle style, String text) {
+        return translationBatcher.translate(style, text);
+    }
+}
@@ -0,0 +1,52 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.client.UpstreamInvoker;
+import com.tommasoamadori.pokedex.client.api.funtranslations.FunTranslationsClient;
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import com.tommasoamadori.pokedex.constant.Upstream;
+import com.tommasoamadori.pokedex.dto.request.funtranslations.TranslateRequest;
+import com.tommasoamadori.pokedex.dto.response.funtranslations.FunTranslationsResponse;
+import com.tommasoamadori.pokedex.dto.response.funtranslations.model.TranslationContentModel;
+import com.tommasoamadori.pokedex.tracing.SpanTracer;
+import io.micronaut.http.HttpResponse;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Translates a single text through FunTranslations, each call consuming one unit of quota.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+public class FunTranslationsTranslator {
+
+    private final FunTranslationsClient funTranslationsClient;
+    private final UpstreamInvoker upstreamInvoker;
+    private final SpanTracer spanTracer;
+
+    /**
+     * @param style The translation style.
+     * @param text  The text to translate.
+     * @return The translated text, empty if FunTranslations returned no translation.
+     */
+    public Optional<String> translate(TranslationStyle style, String text) {
+        final TranslateRequest requestBody = new TranslateRequest(text);
+
+        Function<TranslateRequest, HttpResponse<FunTranslationsResponse>> translationFunction =
+                style == TranslationStyle.YODA
+                        ? funTranslationsClient::translateYoda
+                        : funTranslationsClient::translateShakespeare;
+
+        log.info("Retrieving {} translation", style.getCode());
+
+        return spanTracer.inSpan("FunTranslationsTranslator.translate", "translation.style", style.getCode(), () ->
+                upstreamInvoker.invoke(Upstream.FUNTRANSLATIONS, () -> translationFunction.apply(requestBody))
+                        .getBody()
+                        .map(FunTranslationsResponse::contents)
+                        .map(TranslationContentModel::translated));
+    }
+}
@@ -0,0 +1,131 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process, rule-based engine: no quota, no I/O and the same output for the same input.
+ *
+ * <p>
+ * Rules:
+ * <ol>
+ *     <li>Yoda: in every sentence with an auxiliary verb, what follows the verb is moved in front,
+ *     so "It was created by a scientist." becomes "Created by a scientist, it was.".</li>
+ *     <li>Shakespeare: common words are replaced by their Early Modern English form, keeping the capitalization.</li>
+ * </ol>
+ * </p>
+ */
+@Singleton
+@Named(LocalTranslationEngine.NAME)
+public class LocalTranslationEngine implements TranslationEngine {
+
+    public static final String NAME = "local";
+
+    private static final Pattern SENTENCE = Pattern.compile("[^.!?]+([.!?]+|$)");
+    private static final Pattern WORD = Pattern.compile("\\b[\\p{L}']+\\b");
+    private static final Pattern BLANKS = Pattern.compile("\\s+");
+
+    private static final Set<String> AUXILIARIES = Set.of(
+            "is", "are", "was", "were", "can", "could", "will", "would", "should", "must", "may", "might", "has", "have", "had"
+    );
+    // Sentence starters that are not proper nouns, so they can be lowercased once moved
+    private static final Set<String> COMMON_STARTERS = Set.of(
+            "it", "its", "this", "these", "that", "those", "the", "a", "an", "they", "their", "he", "she", "we", "you", "one"
+    );
+    private static final Map<String, String> SHAKESPEARE_WORDS = Map.ofEntries(
+            Map.entry("you", "thou"),
+            Map.entry("your", "thy"),
+            Map.entry("yours", "thine"),
+            Map.entry("yourself", "thyself"),
+            Map.entry("are", "art"),
+            Map.entry("has", "hath"),
+            Map.entry("does", "doth"),
+            Map.entry("before", "ere"),
+            Map.entry("often", "oft"),
+            Map.entry("over", "o'er"),
+            Map.entry("ever", "e'er"),
+            Map.entry("never", "ne'er"),
+            Map.entry("between", "betwixt"),
+            Map.entry("perhaps", "perchance"),
+            Map.entry("yes", "aye"),
+            Map.entry("hello", "good morrow")
+    );
+
+    @Override
+    public Optional<String> translate(TranslationStyle style, String text) {
+        if (text == null || text.isBlank()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(style == TranslationStyle.YODA ? toYoda(text) : toShakespeare(text));
+    }
+
+    private static String toShakespeare(String text) {
+        return WORD.matcher(text).replaceAll(match -> {
+            final String word = match.group();
+            final String replacement = SHAKESPEARE_WORDS.get(word.toLowerCase(Locale.ROOT));
+            if (replacement == null) {
+                return Matcher.quoteReplacement(word);
+            }
+
+            return Matcher.quoteReplacement(Character.isUpperCase(word.charAt(0)) ? capitalize(replacement) : replacement);
+        });
+    }
+
+    private static String toYoda(String text) {
+        final List<String> sentences = new ArrayList<>();
+        final Matcher matcher = SENTENCE.matcher(text);
+        while (matcher.find()) {
+            final String sentence = matcher.group().strip();
+            if (!sentence.isEmpty()) {
+                sentences.add(toYodaSentence(sentence));
+            }
+        }
+
+        return String.join(" ", sentences);
+    }
+
+    private static String toYodaSentence(String sentence) {
+        int bodyEnd = sentence.length();
+        while (bodyEnd > 0 && ".!?".indexOf(sentence.charAt(bodyEnd - 1)) >= 0) {
+            bodyEnd--;
+        }
+        final String terminator = bodyEnd < sentence.length() ? sentence.substring(bodyEnd) : ".";
+        final String[] words = BLANKS.split(sentence.substring(0, bodyEnd).strip());
+
+        for (int i = 1; i < words.length - 1; i++) {
+            if (AUXILIARIES.contains(words[i].toLowerCase(Locale.ROOT))) {
+                final String subject = String.join(" ", Arrays.copyOfRange(words, 0, i));
+                final String predicate = String.join(" ", Arrays.copyOfRange(words, i + 1, words.length));
+
+                return capitalize(predicate) + ", " + decapitalizeCommonStarter(subject) + " " + words[i].toLowerCase(Locale.ROOT) + terminator;
+            }
+        }
+
+        return sentence;
+    }
+
+    private static String capitalize(String text) {
+        return text.isEmpty() ? text : Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private static String decapitalizeCommonStarter(String subject) {
+        final int firstWordEnd = subject.indexOf(' ') < 0 ? subject.length() : subject.indexOf(' ');
+        if (!COMMON_STARTERS.contains(subject.substring(0, firstWordEnd).toLowerCase(Locale.ROOT))) {
+            return subject;
+        }
+
+        return Character.toLowerCase(subject.charAt(0)) + subject.substring(1);
+    }
+}
@@ -0,0 +1,22 @@
+package com.tommasoamadori.pokedex.translation;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the micro-batching of FunTranslations calls.
+ *
+ * @param enabled  Whether descriptions of the same style are coalesced into a single call.
+ * @param window   How long the first description of a batch waits for others.
+ * @param maxItems Maximum number of descriptions in a batch.
+ * @param maxChars Maximum length of the text sent in a single call, separators included.
+ */
+@ConfigurationProperties("pokedex.translation.batch")
+public record TranslationBatchConfiguration(
+        @Bindable(defaultValue = "false") boolean enabled,
+        @Bindable(defaultValue = "20ms") Duration window,
+        @Bindable(defaultValue = "10") int maxItems,
+        @Bindable(defaultValue = "1500") int maxChars
+) { }
@@ -0,0 +1,262 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import com.tommasoamadori.pokedex.constant.Upstream;
+import com.tommasoamadori.pokedex.deadline.Deadline;
+import com.tommasoamadori.pokedex.deadline.DeadlineContext;
+import com.tommasoamadori.pokedex.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Coalesces the descriptions to translate with the same style into a single FunTranslations call.
+ *
+ * <p>
+ * The first description of a batch waits up to the configured window for others, or until the batch is full.
+ * The descriptions are sent as one text, each preceded by a numbered marker such as {@code [[0]]},
+ * and the translation is split back on the same markers. If the markers did not survive the translation
+ * in order, every description of the batch is translated on its own instead.
+ * </p>
+ *
+ * <p>
+ * A batch is translated in the propagated context of the request that opened it, so in its trace, and bounded by
+ * the latest deadline among its waiters, since no waiter is left once it expires. It is unbounded only if one of
+ * its waiters has no deadline.
+ * </p>
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+public class TranslationBatcher {
+
+    private static final Pattern MARKER = Pattern.compile("\\[\\[(\\d+)]]");
+    private static final int MARKER_LENGTH = "[[00]] ".length();
+
+    private final FunTranslationsTranslator translator;
+    private final TranslationBatchConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    @Named(TaskExecutors.SCHEDULED)
+    private final ScheduledExecutorService scheduler;
+    @Named(TaskExecutors.BLOCKING)
+    private final ExecutorService executorService;
+
+    private final Map<TranslationStyle, Batch> openBatches = new EnumMap<>(TranslationStyle.class);
+
+    /**
+     * Translates a text, possibly together with other texts of the same style.
+     * Waits no longer than the current request deadline, if any.
+     *
+     * @param style The translation style.
+     * @param text  The text to translate.
+     * @return The translated text, empty if FunTranslations returned no translation.
+     */
+    public Optional<String> translate(TranslationStyle style, String text) {
+        if (!configuration.enabled() || text.length() + MARKER_LENGTH > configuration.maxChars()) {
+            return translator.translate(style, text);
+        }
+
+        final Item item = new Item(text, new CompletableFuture<>());
+        final int itemChars = text.length() + MARKER_LENGTH;
+        final List<Batch> closedBatches = new ArrayList<>(2);
+        synchronized (openBatches) {
+            Batch batch = openBatches.get(style);
+            if (batch != null && batch.chars + itemChars > configuration.maxChars()) {
+                closedBatches.add(openBatches.remove(style));
+                batch = null;
+            }
+            if (batch == null) {
+                batch = new Batch(style, PropagatedContext.getOrEmpty());
+                openBatches.put(style, batch);
+                final Batch scheduledBatch = batch;
+                scheduler.schedule(() -> close(scheduledBatch), configuration.window().toNanos(), TimeUnit.NANOSECONDS);
+            }
+            batch.items.add(item);
+            batch.chars += itemChars;
+            batch.extendDeadline(DeadlineContext.current());
+
+            if (batch.items.size() >= configuration.maxItems()) {
+                closedBatches.add(openBatches.remove(style));
+            }
+        }
+        closedBatches.forEach(closedBatch -> executorService.execute(() -> flush(closedBatch)));
+
+        return await(item.result());
+    }
+
+    private void close(Batch batch) {
+        synchronized (openBatches) {
+            if (openBatches.get(batch.style) != batch) {
+                return;
+            }
+            openBatches.remove(batch.style);
+        }
+
+        executorService.execute(() -> flush(batch));
+    }
+
+    private void flush(Batch batch) {
+        try (PropagatedContext.Scope ignored = batch.flushContext().propagate()) {
+            translateBatch(batch);
+        }
+    }
+
+    private void translateBatch(Batch batch) {
+        final List<Item> items = batch.items;
+        meterRegistry.summary("pokedex.translation.batch.size", "style", batch.style.getCode()).record(items.size());
+
+        if (items.size() == 1) {
+            translateSingle(batch.style, items.get(0));
+            return;
+        }
+
+        final StringBuilder joinedText = new StringBuilder();
+        for (int i = 0; i < items.size(); i++) {
+            joinedText.append("[[").append(i).append("]] ").append(items.get(i).text()).append(' ');
+        }
+
+        final Optional<String> translation;
+        try {
+            translation = translator.translate(batch.style, joinedText.toString().strip());
+        } catch (RuntimeException e) {
+            items.forEach(item -> item.result().completeExceptionally(e));
+            return;
+        }
+
+        final Optional<List<String>> parts = translation.flatMap(translated -> split(translated, items.size()));
+        if (parts.isEmpty()) {
+            log.warn("Unable to split the {} translation of {} descriptions, translating them one by one", batch.style.getCode(), items.size());
+            meterRegistry.counter("pokedex.translation.batch.split-failures", "style", batch.style.getCode()).increment();
+            items.forEach(item -> translateSingle(batch.style, item));
+            return;
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).result().complete(Optional.of(parts.get().get(i)));
+        }
+    }
+
+    private void translateSingle(TranslationStyle style, Item item) {
+        try {
+            item.result().complete(translator.translate(style, item.text()));
+        } catch (RuntimeException e) {
+            item.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Splits a joined translation on its markers, which must all be present, in order, and each followed by some text.
+     */
+    static Optional<List<String>> split(String translated, int expectedParts) {
+        final Matcher matcher = MARKER.matcher(translated);
+        final List<String> parts = new ArrayList<>(expectedParts);
+
+        int previousEnd = -1;
+        while (matcher.find()) {
+            final String text = translated.substring(Math.max(previousEnd, 0), matcher.start());
+            if (previousEnd < 0) {
+                if (!text.isBlank()) {
+                    return Optional.empty();
+                }
+            } else if (!addPart(parts, text)) {
+                return Optional.empty();
+            }
+            if (Integer.parseInt(matcher.group(1)) != parts.size()) {
+                return Optional.empty();
+            }
+            previousEnd = matcher.end();
+        }
+
+        if (previousEnd < 0 || !addPart(parts, translated.substring(previousEnd)) || parts.size() != expectedParts) {
+            return Optional.empty();
+        }
+
+        return Optional.of(parts);
+    }
+
+    private static boolean addPart(List<String> parts, String part) {
+        if (part.isBlank()) {
+            return false;
+        }
+
+        parts.add(part.strip());
+        return true;
+    }
+
+    private static Optional<String> await(CompletableFuture<Optional<String>> result) {
+        final Optional<Deadline> oDeadline = DeadlineContext.current();
+
+        try {
+            return oDeadline.isPresent()
+                    ? result.get(oDeadline.get().remaining().toNanos(), TimeUnit.NANOSECONDS)
+                    : result.get();
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException(Upstream.FUNTRANSLATIONS.getCode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeadlineExceededException(Upstream.FUNTRANSLATIONS.getCode());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Item(String text, CompletableFuture<Optional<String>> result) { }
+
+    private static final class Batch {
+
+        private final TranslationStyle style;
+        private final PropagatedContext context;
+        private final List<Item> items = new ArrayList<>();
+        private int chars;
+        private Deadline latestDeadline;
+        private boolean unbounded;
+
+        private Batch(TranslationStyle style, PropagatedContext context) {
+            this.style = style;
+            this.context = context;
+        }
+
+        private void extendDeadline(Optional<Deadline> oDeadline) {
+            if (oDeadline.isEmpty()) {
+                unbounded = true;
+            } else if (latestDeadline == null || oDeadline.get().remaining().compareTo(latestDeadline.remaining()) > 0) {
+                latestDeadline = oDeadline.get();
+            }
+        }
+
+        /**
+         * The context of the request that opened the batch, with the latest deadline of its waiters in place of
+         * its own. The deadline is a new one, so that a waiter going away does not cancel the batch of the others.
+         */
+        private PropagatedContext flushContext() {
+            final PropagatedContext withoutDeadline = context.find(DeadlineContext.class)
+                    .map(context::minus)
+                    .orElse(context);
+
+            return unbounded || latestDeadline == null
+                    ? withoutDeadline
+                    : withoutDeadline.plus(new DeadlineContext(Deadline.after(latestDeadline.remaining())));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationPolicy;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.bind.annotation.Bindable;
+
+/**
+ * Configuration of the translation engines.
+ *
+ * @param policy How the local and the remote engines are combined.
+ */
+@ConfigurationProperties("pokedex.translation")
+public record TranslationConfiguration(
+        @Bindable(defaultValue = "REMOTE_ONLY") TranslationPolicy policy
+) { }
@@ -0,0 +1,90 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Translation rules compiled into a table indexed by habitat and legendary status, so that routing a species
+ * is a map lookup and an array access however many rules there are.
+ *
+ * <p>
+ * Every habitat named by some rule gets its own row; all the other habitats, and the missing one, share a row.
+ * Each row holds the index of the first matching rule for non-legendary and legendary species.
+ * A fallback rule matching everything is always evaluated last.
+ * </p>
+ */
+final class TranslationDecisionTable {
+
+    static final TranslationRule FALLBACK = new TranslationRule("fallback", Integer.MAX_VALUE, null, null, TranslationStyle.SHAKESPEARE);
+
+    private final List<TranslationRule> rules;
+    private final Map<String, int[]> rowsByHabitat;
+    private final int[] otherHabitatsRow;
+
+    private TranslationDecisionTable(List<TranslationRule> rules, Map<String, int[]> rowsByHabitat, int[] otherHabitatsRow) {
+        this.rules = rules;
+        this.rowsByHabitat = rowsByHabitat;
+        this.otherHabitatsRow = otherHabitatsRow;
+    }
+
+    /**
+     * @throws IllegalArgumentException If a rule is named as the fallback one, since they would share a hit counter.
+     */
+    static TranslationDecisionTable compile(List<TranslationRule> definitions) {
+        if (definitions.stream().anyMatch(rule -> rule.name().equals(FALLBACK.name()))) {
+            throw new IllegalArgumentException("A translation rule cannot be named %s".formatted(FALLBACK.name()));
+        }
+
+        final List<TranslationRule> rules = Stream.concat(
+                definitions.stream().sorted(Comparator.comparingInt(TranslationRule::order).thenComparing(TranslationRule::name)),
+                Stream.of(FALLBACK)
+        ).toList();
+
+        final Map<String, int[]> rowsByHabitat = new HashMap<>();
+        rules.stream()
+                .map(TranslationRule::habitat)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(habitat -> rowsByHabitat.put(habitat, row(rules, habitat)));
+
+        return new TranslationDecisionTable(rules, Map.copyOf(rowsByHabitat), row(rules, null));
+    }
+
+    /**
+     * @return The index of the rule routing a species with the given attributes.
+     */
+    int ruleIndex(@Nullable String habitat, boolean legendary) {
+        final int[] row = habitat == null ? otherHabitatsRow : rowsByHabitat.getOrDefault(habitat, otherHabitatsRow);
+
+        return row[legendary ? 1 : 0];
+    }
+
+    TranslationRule rule(int index) {
+        return rules.get(index);
+    }
+
+    List<TranslationRule> rules() {
+        return rules;
+    }
+
+    private static int[] row(List<TranslationRule> rules, @Nullable String habitat) {
+        return new int[]{firstMatch(rules, habitat, false), firstMatch(rules, habitat, true)};
+    }
+
+    private static int firstMatch(List<TranslationRule> rules, @Nullable String habitat, boolean legendary) {
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i).matches(habitat, legendary)) {
+                return i;
+            }
+        }
+
+        throw new IllegalStateException("The fallback rule must match every species");
+    }
+}
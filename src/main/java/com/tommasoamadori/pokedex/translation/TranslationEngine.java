@@ -0,0 +1,18 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+
+import java.util.Optional;
+
+/**
+ * Translates Pokémon descriptions into a fun style.
+ */
+public interface TranslationEngine {
+
+    /**
+     * @param style The translation style.
+     * @param text  The text to translate.
+     * @return The translated text, empty if the engine cannot translate it.
+     */
+    Optional<String> translate(TranslationStyle style, String text);
+}
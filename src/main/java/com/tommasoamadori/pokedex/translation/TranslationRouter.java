@@ -0,0 +1,143 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.env.Environment;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.type.Argument;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chooses the translation style of a species from the rules under {@code pokedex.translation.rules}.
+ *
+ * <p>
+ * The rules are compiled into a {@link TranslationDecisionTable} at startup and again on every {@link RefreshEvent},
+ * then swapped in with a single volatile write, so routing never takes a lock. An invalid reload is logged
+ * and the previous rules stay in place. Without configured rules, cave and legendary species get the Yoda style.
+ * </p>
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+public class TranslationRouter implements ApplicationEventListener<RefreshEvent> {
+
+    static final String RULES_PREFIX = "pokedex.translation.rules";
+
+    private static final List<TranslationRule> DEFAULT_RULES = List.of(
+            new TranslationRule("cave", 1, "cave", null, TranslationStyle.YODA),
+            new TranslationRule("legendary", 2, null, true, TranslationStyle.YODA)
+    );
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, LongAdder> hitsByRule = new ConcurrentHashMap<>();
+    private volatile Routing routing;
+
+    /**
+     * The compiled table with the hit counter of each of its rules, at the same index.
+     */
+    private record Routing(TranslationDecisionTable table, LongAdder[] hits) { }
+
+    @PostConstruct
+    void init() {
+        routing = compile(readRules());
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshEvent event) {
+        try {
+            routing = compile(readRules());
+            log.info("Reloaded translation rules {}", routing.table().rules());
+        } catch (RuntimeException e) {
+            log.error("Invalid translation rules, keeping the previous ones: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Routes a species to its translation style, counting a hit of the matching rule.
+     *
+     * @param pokemonInfo The species to translate.
+     * @return The translation style.
+     */
+    public TranslationStyle route(PokemonInfoResponse pokemonInfo) {
+        final Routing current = routing;
+        final int ruleIndex = current.table().ruleIndex(pokemonInfo.habitat(), Boolean.TRUE.equals(pokemonInfo.isLegendary()));
+        current.hits()[ruleIndex].increment();
+
+        return current.table().rule(ruleIndex).style();
+    }
+
+    /**
+     * Same as {@link #route(PokemonInfoResponse)}, without counting a hit.
+     */
+    public TranslationStyle styleOf(PokemonInfoResponse pokemonInfo) {
+        final TranslationDecisionTable table = routing.table();
+
+        return table.rule(table.ruleIndex(pokemonInfo.habitat(), Boolean.TRUE.equals(pokemonInfo.isLegendary()))).style();
+    }
+
+    /**
+     * @return The number of species routed by each rule since startup, including the rules no longer configured.
+     */
+    public Map<String, Long> hits() {
+        final Map<String, Long> hits = new TreeMap<>();
+        hitsByRule.forEach((rule, counter) -> hits.put(rule, counter.sum()));
+
+        return hits;
+    }
+
+    private Routing compile(List<TranslationRule> rules) {
+        final TranslationDecisionTable table = TranslationDecisionTable.compile(rules);
+        final LongAdder[] hits = table.rules().stream()
+                .map(rule -> hitsByRule.computeIfAbsent(rule.name(), this::registerCounter))
+                .toArray(LongAdder[]::new);
+
+        return new Routing(table, hits);
+    }
+
+    private LongAdder registerCounter(String rule) {
+        final LongAdder counter = new LongAdder();
+        FunctionCounter.builder("pokedex.translation.rule.hits", counter, LongAdder::sum)
+                .tag("rule", rule)
+                .register(meterRegistry);
+
+        return counter;
+    }
+
+    private List<TranslationRule> readRules() {
+        final Map<String, Object> definitions = environment
+                .getProperty(RULES_PREFIX, Argument.mapOf(String.class, Object.class))
+                .orElse(Map.of());
+        if (definitions.isEmpty()) {
+            return DEFAULT_RULES;
+        }
+
+        final List<TranslationRule> rules = new ArrayList<>();
+        definitions.keySet().forEach(name -> {
+            final String prefix = RULES_PREFIX + "." + name + ".";
+            rules.add(new TranslationRule(
+                    name,
+                    environment.getProperty(prefix + "order", Integer.class).orElse(0),
+                    environment.getProperty(prefix + "habitat", String.class).orElse(null),
+                    environment.getProperty(prefix + "legendary", Boolean.class).orElse(null),
+                    environment.getRequiredProperty(prefix + "style", TranslationStyle.class)
+            ));
+        });
+
+        return rules;
+    }
+}
@@ -0,0 +1,29 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Routes the species matching every condition of the rule to a translation style.
+ *
+ * @param name      The rule name, used as tag of its hit counter.
+ * @param order     Rules are evaluated by ascending order, the first match wins.
+ * @param habitat   The habitat to match, any habitat when {@code null}.
+ * @param legendary The legendary status to match, any status when {@code null}.
+ * @param style     The translation style of the matching species.
+ */
+public record TranslationRule(
+        String name,
+        int order,
+        @Nullable String habitat,
+        @Nullable Boolean legendary,
+        TranslationStyle style
+) {
+
+    public boolean matches(@Nullable String speciesHabitat, boolean speciesLegendary) {
+        return (habitat == null || Objects.equals(habitat, speciesHabitat))
+                && (legendary == null || legendary == speciesLegendary);
+    }
+}
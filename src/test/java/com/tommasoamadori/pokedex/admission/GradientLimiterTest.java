@@ -0,0 +1,82 @@
+package com.tommasoamadori.pokedex.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class GradientLimiterTest {
+
+    private static final AdmissionConfiguration configuration =
+            new AdmissionConfiguration(true, 10, 2, 100, 0.5, 0.5, Duration.ofSeconds(1));
+
+    @Test
+    @DisplayName("tryAcquire should admit requests up to the limit")
+    void tryAcquireShouldAdmitUpToLimit() {
+        final GradientLimiter limiter = new GradientLimiter(configuration);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.HIGH)).isTrue();
+        }
+
+        assertAll(
+                () -> assertThat(limiter.tryAcquire(RequestPriority.HIGH)).isFalse(),
+                () -> assertThat(limiter.getInFlight()).isEqualTo(10)
+        );
+    }
+
+    @Test
+    @DisplayName("tryAcquire should shed low priority requests before high priority ones")
+    void tryAcquireShouldShedLowPriorityFirst() {
+        final GradientLimiter limiter = new GradientLimiter(configuration);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(RequestPriority.HIGH);
+        }
+
+        assertAll(
+                () -> assertThat(limiter.tryAcquire(RequestPriority.LOW)).isFalse(),
+                () -> assertThat(limiter.tryAcquire(RequestPriority.HIGH)).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("release should shrink the limit when the latency rises")
+    void releaseShouldShrinkLimitWhenLatencyRises() {
+        final GradientLimiter limiter = new GradientLimiter(configuration);
+
+        fillAndRelease(limiter, TimeUnit.MILLISECONDS.toNanos(10));
+        final int limitWithLowLatency = limiter.getLimit();
+
+        for (int i = 0; i < 5; i++) {
+            fillAndRelease(limiter, TimeUnit.MILLISECONDS.toNanos(200));
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(limitWithLowLatency);
+    }
+
+    @Test
+    @DisplayName("release should shrink the limit when a request is dropped")
+    void releaseShouldShrinkLimitOnDrop() {
+        final GradientLimiter limiter = new GradientLimiter(configuration);
+
+        limiter.tryAcquire(RequestPriority.HIGH);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), true);
+
+        assertThat(limiter.getLimit()).isLessThan(10);
+    }
+
+    private static void fillAndRelease(GradientLimiter limiter, long rttNanos) {
+        int admitted = 0;
+        while (limiter.tryAcquire(RequestPriority.HIGH)) {
+            admitted++;
+        }
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(rttNanos, false);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.tommasoamadori.pokedex.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class LocalCacheBackendTest {
+
+    private final LocalCacheBackend backend = new LocalCacheBackend(
+            new CacheConfiguration(true, Duration.ofSeconds(30), 100, Duration.ofHours(1), Duration.ofDays(7), 2));
+
+    @Test
+    @DisplayName("get should return a value until its own TTL expires")
+    void getShouldHonourTtlOfEachEntry() throws InterruptedException {
+        backend.put("short", "value", Duration.ofMillis(10));
+        backend.put("long", "value", Duration.ofMinutes(1));
+
+        Thread.sleep(50);
+
+        assertAll(
+                () -> assertThat(backend.get("short")).isEmpty(),
+                () -> assertThat(backend.get("long")).contains("value")
+        );
+    }
+
+    @Test
+    @DisplayName("delete should remove the value")
+    void deleteShouldRemoveValue() {
+        backend.put("key", "value", Duration.ofMinutes(1));
+
+        backend.delete("key");
+
+        assertThat(backend.get("key")).isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+package com.tommasoamadori.pokedex.cache;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@MicronautTest
+@Property(name = "pokedex.negative-cache.enabled", value = "true")
+public class NegativeCacheTest {
+
+    @Inject
+    private NegativeCache negativeCache;
+
+    @Test
+    @DisplayName("isKnownMissing should return true only for names marked as missing")
+    void isKnownMissingShouldReturnTrueForMarkedNames() {
+        final String missingName = Instancio.of(String.class).withSeed(1).create();
+        final String otherName = Instancio.of(String.class).withSeed(2).create();
+
+        negativeCache.markMissing(missingName);
+
+        assertAll(
+                () -> assertThat(negativeCache.isKnownMissing(missingName)).isTrue(),
+                () -> assertThat(negativeCache.isKnownMissing(otherName)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("isKnownMissing should return false once a name has been forgotten")
+    void isKnownMissingShouldReturnFalseAfterForget() {
+        final String missingName = Instancio.of(String.class).withSeed(3).create();
+
+        negativeCache.markMissing(missingName);
+        negativeCache.forget(missingName);
+
+        assertThat(negativeCache.isKnownMissing(missingName)).isFalse();
+    }
+}
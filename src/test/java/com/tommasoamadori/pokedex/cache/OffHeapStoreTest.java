@@ -0,0 +1,86 @@
+package com.tommasoamadori.pokedex.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class OffHeapStoreTest {
+
+    private static final long NOW = 0;
+    private static final long NEVER = Long.MAX_VALUE;
+
+    @Test
+    @DisplayName("put should store the value and get should return it, overwrites included")
+    void putAndGetShouldRoundTrip() {
+        final OffHeapStore store = new OffHeapStore(1 << 20, 1 << 16);
+
+        store.put("info:mr-mime", "{\"description\":\"Pantomime Pokémon ✨\"}", NEVER);
+        store.put("info:pikachu", "first", NEVER);
+        store.put("info:pikachu", "second", NEVER);
+
+        assertAll(
+                () -> assertThat(store.get("info:mr-mime", NOW)).contains("{\"description\":\"Pantomime Pokémon ✨\"}"),
+                () -> assertThat(store.get("info:pikachu", NOW)).contains("second"),
+                () -> assertThat(store.get("info:missing", NOW)).isEmpty(),
+                () -> assertThat(store.size()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("remove should drop the entry and keep the other entries of the same probe sequence reachable")
+    void removeShouldKeepOtherEntries() {
+        final OffHeapStore store = new OffHeapStore(1 << 20, 1 << 16);
+        IntStream.range(0, 5000).forEach(i -> store.put("key" + i, "value" + i, NEVER));
+
+        IntStream.range(0, 5000).filter(i -> i % 2 == 0).forEach(i -> store.remove("key" + i));
+
+        assertAll(
+                () -> assertThat(store.size()).isEqualTo(2500),
+                () -> assertThat(store.get("key10", NOW)).isEmpty(),
+                () -> assertThat(IntStream.range(0, 5000).filter(i -> i % 2 == 1))
+                        .allMatch(i -> store.get("key" + i, NOW).filter(("value" + i)::equals).isPresent())
+        );
+    }
+
+    @Test
+    @DisplayName("get should ignore expired entries")
+    void getShouldIgnoreExpiredEntries() {
+        final OffHeapStore store = new OffHeapStore(1 << 20, 1 << 16);
+
+        store.put("translation:yoda", "Expired, this is", 10);
+
+        assertAll(
+                () -> assertThat(store.get("translation:yoda", 5)).contains("Expired, this is"),
+                () -> assertThat(store.get("translation:yoda", 20)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("writes beyond the byte budget should evict the oldest entries")
+    void writesBeyondBudgetShouldEvictOldestEntries() {
+        final OffHeapStore store = new OffHeapStore(4096, 1024);
+        IntStream.range(0, 1000).forEach(i -> store.put("key" + i, "value" + i, NEVER));
+
+        assertAll(
+                () -> assertThat(store.usedBytes()).isLessThanOrEqualTo(store.capacityBytes()),
+                () -> assertThat(store.evictions()).isPositive(),
+                () -> assertThat(store.get("key0", NOW)).isEmpty(),
+                () -> assertThat(store.get("key999", NOW)).contains("value999")
+        );
+    }
+
+    @Test
+    @DisplayName("put should reject an entry larger than a slab")
+    void putShouldRejectEntryLargerThanSlab() {
+        final OffHeapStore store = new OffHeapStore(4096, 1024);
+
+        assertAll(
+                () -> assertThat(store.put("large", "x".repeat(2048), NEVER)).isFalse(),
+                () -> assertThat(store.get("large", NOW)).isEmpty()
+        );
+    }
+}
@@ -0,0 +1,176 @@
+package com.tommasoamadori.pokedex.cache;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@MicronautTest
+@Property(name = "pokedex.response-cache.enabled", value = "true")
+public class ResponseBytesCacheTest {
+
+    // A single-species body of typical size, below the server compression threshold
+    private static final PokemonInfoResponse MEWTWO = new PokemonInfoResponse(
+            "mewtwo",
+            "It was created by a scientist after years of horrific gene splicing and DNA engineering experiments.",
+            "rare",
+            true
+    );
+
+    @Inject
+    private ResponseBytesCache responseBytesCache;
+
+    @Inject
+    private ObjectMapper objectMapper;
+
+    @Inject
+    private TwoTierCache twoTierCache;
+
+    @Test
+    @DisplayName("getOrLoad should serialize the value only once")
+    void getOrLoadShouldSerializeOnce() {
+        final ResponseBytesCache.Key key = Instancio.of(ResponseBytesCache.Key.class).withSeed(1).create();
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(1).create();
+        final AtomicInteger loads = new AtomicInteger();
+
+        ResponseBytesCache.Body first = responseBytesCache.getOrLoad(key, () -> {
+            loads.incrementAndGet();
+            return new ResponseBytesCache.Loaded(pokemonInfo, true);
+        });
+        ResponseBytesCache.Body second = responseBytesCache.getOrLoad(key, () -> {
+            loads.incrementAndGet();
+            return new ResponseBytesCache.Loaded(pokemonInfo, true);
+        });
+
+        assertAll(
+                () -> assertThat(loads.get()).isEqualTo(1),
+                () -> assertThat(second).isSameAs(first)
+        );
+    }
+
+    @Test
+    @DisplayName("getOrLoad should return the JSON body and its gzip variant")
+    void getOrLoadShouldReturnJsonAndGzipBodies() throws IOException {
+        final ResponseBytesCache.Key key = Instancio.of(ResponseBytesCache.Key.class).withSeed(2).create();
+        final PokemonInfoResponse pokemonInfo = MEWTWO;
+
+        ResponseBytesCache.Body body = responseBytesCache.getOrLoad(key, () -> new ResponseBytesCache.Loaded(pokemonInfo, true));
+
+        byte[] decompressed;
+        try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(body.gzip()))) {
+            decompressed = gzipStream.readAllBytes();
+        }
+
+        assertAll(
+                () -> assertThat(objectMapper.readValue(body.json(), PokemonInfoResponse.class)).isEqualTo(pokemonInfo),
+                () -> assertThat(decompressed).isEqualTo(body.json())
+        );
+    }
+
+    @Test
+    @DisplayName("getOrLoad should not keep a gzip variant below the gzip threshold")
+    void getOrLoadShouldNotCompressSmallBodies() {
+        final ResponseBytesCache.Key key = Instancio.of(ResponseBytesCache.Key.class).withSeed(7).create();
+        final PokemonInfoResponse pokemonInfo = new PokemonInfoResponse("mew", "Tiny.", "rare", true);
+
+        ResponseBytesCache.Body body = responseBytesCache.getOrLoad(key, () -> new ResponseBytesCache.Loaded(pokemonInfo, true));
+
+        assertAll(
+                () -> assertThat(body.json().length).isLessThan(128),
+                () -> assertThat(body.gzip()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("getOrLoad should serve but not store a body that is not cacheable")
+    void getOrLoadShouldNotStoreNonCacheableBody() {
+        final ResponseBytesCache.Key key = Instancio.of(ResponseBytesCache.Key.class).withSeed(3).create();
+        final PokemonInfoResponse fallback = Instancio.of(PokemonInfoResponse.class).withSeed(3).create();
+        final PokemonInfoResponse translated = Instancio.of(PokemonInfoResponse.class).withSeed(4).create();
+
+        ResponseBytesCache.Body first = responseBytesCache.getOrLoad(key, () -> new ResponseBytesCache.Loaded(fallback, false));
+        ResponseBytesCache.Body second = responseBytesCache.getOrLoad(key, () -> new ResponseBytesCache.Loaded(translated, true));
+
+        assertAll(
+                () -> assertThat(objectMapper.readValue(first.json(), PokemonInfoResponse.class)).isEqualTo(fallback),
+                () -> assertThat(objectMapper.readValue(second.json(), PokemonInfoResponse.class)).isEqualTo(translated)
+        );
+    }
+
+    @Test
+    @DisplayName("getOrLoad should serialize again the bodies of a species invalidated in the shared cache")
+    void getOrLoadShouldFollowSpeciesInvalidation() {
+        final String species = Instancio.of(String.class).withSeed(5).create();
+        final ResponseBytesCache.Key info = new ResponseBytesCache.Key("info", species, "en");
+        final ResponseBytesCache.Key translated = new ResponseBytesCache.Key("translated info", species, "en");
+        final ResponseBytesCache.Key other = new ResponseBytesCache.Key("info", species + "-other", "en");
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(5).create();
+        final AtomicInteger loads = new AtomicInteger();
+
+        for (ResponseBytesCache.Key key : new ResponseBytesCache.Key[]{info, translated, other}) {
+            responseBytesCache.getOrLoad(key, () -> new ResponseBytesCache.Loaded(pokemonInfo, true));
+        }
+        twoTierCache.invalidate(CacheKeys.info(species));
+        for (ResponseBytesCache.Key key : new ResponseBytesCache.Key[]{info, translated, other}) {
+            responseBytesCache.getOrLoad(key, () -> {
+                loads.incrementAndGet();
+                return new ResponseBytesCache.Loaded(pokemonInfo, true);
+            });
+        }
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getOrLoad should load concurrent misses of the same key once")
+    void getOrLoadShouldCoalesceConcurrentMisses() throws Exception {
+        final ResponseBytesCache.Key key = Instancio.of(ResponseBytesCache.Key.class).withSeed(6).create();
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(6).create();
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        final AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<ResponseBytesCache.Body> leader = CompletableFuture.supplyAsync(() ->
+                responseBytesCache.getOrLoad(key, () -> {
+                    loads.incrementAndGet();
+                    loadStarted.countDown();
+                    try {
+                        releaseLoad.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new ResponseBytesCache.Loaded(pokemonInfo, true);
+                }));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<ResponseBytesCache.Body> joiner = CompletableFuture.supplyAsync(() ->
+                responseBytesCache.getOrLoad(key, () -> {
+                    loads.incrementAndGet();
+                    return new ResponseBytesCache.Loaded(pokemonInfo, true);
+                }));
+        releaseLoad.countDown();
+
+        ResponseBytesCache.Body leaderBody = leader.get(5, TimeUnit.SECONDS);
+        ResponseBytesCache.Body joinerBody = joiner.get(5, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertThat(loads.get()).isEqualTo(1),
+                () -> assertThat(joinerBody).isSameAs(leaderBody)
+        );
+    }
+}
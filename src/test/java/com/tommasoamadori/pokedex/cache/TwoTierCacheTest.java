@@ -0,0 +1,166 @@
+package com.tommasoamadori.pokedex.cache;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.exception.DeadlineExceededException;
+import com.tommasoamadori.pokedex.tracing.SpanTracer;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest
+@Property(name = "pokedex.cache.enabled", value = "true")
+public class TwoTierCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Inject
+    private TwoTierCache cache;
+
+    @Inject
+    private LocalCacheBackend backend;
+
+    @Inject
+    private ObjectMapper objectMapper;
+
+    @Inject
+    private CacheConfiguration cacheConfiguration;
+
+    @Inject
+    private SpanTracer spanTracer;
+
+    @Test
+    @DisplayName("getOrLoad should invoke the loader only once for the same key")
+    void getOrLoadShouldInvokeLoaderOnce() {
+        final String key = Instancio.of(String.class).withSeed(1).create();
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(1).create();
+        final AtomicInteger loads = new AtomicInteger();
+
+        PokemonInfoResponse first = cache.getOrLoad(key, PokemonInfoResponse.class, TTL, () -> {
+            loads.incrementAndGet();
+            return pokemonInfo;
+        });
+        PokemonInfoResponse second = cache.getOrLoad(key, PokemonInfoResponse.class, TTL, () -> {
+            loads.incrementAndGet();
+            return pokemonInfo;
+        });
+
+        assertAll(
+                () -> assertThat(loads.get()).isEqualTo(1),
+                () -> assertThat(first).isEqualTo(pokemonInfo),
+                () -> assertThat(second).isEqualTo(pokemonInfo)
+        );
+    }
+
+    @Test
+    @DisplayName("getOrLoad should not cache null values")
+    void getOrLoadShouldNotCacheNullValues() {
+        final String key = Instancio.of(String.class).withSeed(2).create();
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad(key, String.class, TTL, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        cache.getOrLoad(key, String.class, TTL, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("a value written by another replica should be served from the shared cache")
+    void getShouldReturnValueWrittenByAnotherReplica() {
+        final String key = Instancio.of(String.class).withSeed(3).create();
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(3).create();
+        final TwoTierCache otherReplica = new TwoTierCache(backend, objectMapper, cacheConfiguration, spanTracer);
+
+        otherReplica.put(key, pokemonInfo, TTL);
+
+        assertThat(cache.get(key, PokemonInfoResponse.class)).contains(pokemonInfo);
+    }
+
+    @Test
+    @DisplayName("a write from another replica should invalidate the local near-cache entry")
+    void putFromAnotherReplicaShouldInvalidateNearCache() {
+        final String key = Instancio.of(String.class).withSeed(4).create();
+        final PokemonInfoResponse staleInfo = Instancio.of(PokemonInfoResponse.class).withSeed(4).create();
+        final PokemonInfoResponse freshInfo = Instancio.of(PokemonInfoResponse.class).withSeed(5).create();
+        final TwoTierCache otherReplica = new TwoTierCache(backend, objectMapper, cacheConfiguration, spanTracer);
+
+        cache.put(key, staleInfo, TTL);
+        otherReplica.put(key, freshInfo, TTL);
+
+        assertThat(cache.get(key, PokemonInfoResponse.class)).contains(freshInfo);
+    }
+
+    @Test
+    @DisplayName("invalidate should remove the value from both tiers")
+    void invalidateShouldRemoveValueFromBothTiers() {
+        final String key = Instancio.of(String.class).withSeed(6).create();
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(6).create();
+
+        cache.put(key, pokemonInfo, TTL);
+        cache.invalidate(key);
+
+        assertAll(
+                () -> assertThat(cache.get(key, PokemonInfoResponse.class)).isEmpty(),
+                () -> assertThat(backend.get(key)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("a caller joining a load failed on the deadline of its caller should load the value again")
+    void getOrLoadShouldReloadWhenJoinedLoadExceededItsDeadline() throws InterruptedException {
+        final String key = Instancio.of(String.class).withSeed(7).create();
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(7).create();
+        final CountDownLatch leaderFailure = new CountDownLatch(1);
+        final AtomicInteger joinerLoads = new AtomicInteger();
+
+        final CompletableFuture<PokemonInfoResponse> leader = CompletableFuture.supplyAsync(() ->
+                cache.getOrLoad(key, PokemonInfoResponse.class, TTL, () -> {
+                    await(leaderFailure);
+                    throw new DeadlineExceededException("pokeapi");
+                }));
+        while (cache.inFlightLoads() == 0) {
+            Thread.sleep(1);
+        }
+
+        final CompletableFuture<PokemonInfoResponse> joiner = CompletableFuture.supplyAsync(() ->
+                cache.getOrLoad(key, PokemonInfoResponse.class, TTL, () -> {
+                    joinerLoads.incrementAndGet();
+                    return pokemonInfo;
+                }));
+        Thread.sleep(100);
+        leaderFailure.countDown();
+
+        assertAll(
+                () -> assertThrows(Exception.class, leader::join),
+                () -> assertThat(joiner.get(5, TimeUnit.SECONDS)).isEqualTo(pokemonInfo),
+                () -> assertThat(joinerLoads.get()).isEqualTo(1)
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.tommasoamadori.pokedex.client;
+
+import com.tommasoamadori.pokedex.constant.Upstream;
+import com.tommasoamadori.pokedex.deadline.Deadline;
+import com.tommasoamadori.pokedex.deadline.DeadlineContext;
+import com.tommasoamadori.pokedex.exception.DeadlineExceededException;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest
+@Property(name = "pokedex.retry.max-attempts", value = "3")
+@Property(name = "pokedex.retry.initial-backoff", value = "1ms")
+@Property(name = "pokedex.retry.max-backoff", value = "5ms")
+public class UpstreamInvokerTest {
+
+    @Inject
+    private UpstreamInvoker upstreamInvoker;
+
+    @Test
+    @DisplayName("invoke should retry a server error until the call succeeds")
+    void invokeShouldRetryServerErrors() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        String result = upstreamInvoker.invoke(Upstream.POKEAPI, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new HttpClientResponseException("A problem has occured", HttpResponse.serverError());
+            }
+            return "ok";
+        });
+
+        assertAll(
+                () -> assertThat(result).isEqualTo("ok"),
+                () -> assertThat(attempts.get()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("invoke should give up after the maximum number of attempts")
+    void invokeShouldGiveUpAfterMaxAttempts() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpClientResponseException.class, () -> upstreamInvoker.invoke(Upstream.FUNTRANSLATIONS, () -> {
+            attempts.incrementAndGet();
+            throw new HttpClientResponseException("A problem has occured", HttpResponse.serverError());
+        }));
+
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("invoke should not retry a client error")
+    void invokeShouldNotRetryClientErrors() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpClientResponseException.class, () -> upstreamInvoker.invoke(Upstream.FUNTRANSLATIONS, () -> {
+            attempts.incrementAndGet();
+            throw new HttpClientResponseException("Too many requests", HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS));
+        }));
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invoke should interrupt the call and throw DeadlineExceededException when the deadline expires")
+    void invokeShouldInterruptCallWhenDeadlineExpires() throws InterruptedException {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        try (PropagatedContext.Scope ignored = PropagatedContext.getOrEmpty().plus(new DeadlineContext(Deadline.after(Duration.ofMillis(100)))).propagate()) {
+            assertThrows(DeadlineExceededException.class, () -> upstreamInvoker.invoke(Upstream.POKEAPI, () -> sleepUntilInterrupted(interrupted)));
+        }
+
+        assertAll(
+                () -> assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5)),
+                () -> assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("invoke should interrupt the call and throw DeadlineExceededException when the request is cancelled")
+    void invokeShouldInterruptCallWhenRequestIsCancelled() throws InterruptedException {
+        final Deadline deadline = Deadline.after(Duration.ofSeconds(30));
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(deadline::cancel);
+
+        try (PropagatedContext.Scope ignored = PropagatedContext.getOrEmpty().plus(new DeadlineContext(deadline)).propagate()) {
+            assertThrows(DeadlineExceededException.class, () -> upstreamInvoker.invoke(Upstream.FUNTRANSLATIONS, () -> sleepUntilInterrupted(interrupted)));
+        }
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("invoke should not call the upstream when the deadline has already expired")
+    void invokeShouldNotCallWhenDeadlineIsExpired() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        try (PropagatedContext.Scope ignored = PropagatedContext.getOrEmpty().plus(new DeadlineContext(Deadline.after(Duration.ZERO))).propagate()) {
+            assertThrows(DeadlineExceededException.class, () -> upstreamInvoker.invoke(Upstream.POKEAPI, attempts::incrementAndGet));
+        }
+
+        assertThat(attempts.get()).isZero();
+    }
+
+    private static String sleepUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(Duration.ofSeconds(10));
+            return "too late";
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            throw new IllegalStateException(e);
+        }
+    }
+}
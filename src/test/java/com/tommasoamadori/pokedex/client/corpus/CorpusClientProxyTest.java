@@ -0,0 +1,125 @@
+package com.tommasoamadori.pokedex.client.corpus;
+
+import com.tommasoamadori.pokedex.client.api.pokeapi.PokeApiClient;
+import com.tommasoamadori.pokedex.constant.CorpusMode;
+import com.tommasoamadori.pokedex.constant.Upstream;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.PokeApiResponse;
+import com.tommasoamadori.pokedex.exception.CorpusMissException;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.serde.ObjectMapper;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+public class CorpusClientProxyTest {
+
+    private final ObjectMapper objectMapper = ObjectMapper.getDefault();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("an exchange recorded in one run should be replayed in the next run without calling the client")
+    void recordedExchangeShouldBeReplayed() {
+        final PokeApiResponse pokeApiResponse = Instancio.of(PokeApiResponse.class).withSeed(1).create();
+        final PokeApiClient client = mock(PokeApiClient.class);
+        when(client.getPokemonInfo(pokeApiResponse.name()))
+                .thenReturn(HttpResponse.ok(pokeApiResponse).header(HttpHeaders.ETAG, "\"v1\""));
+
+        final ExchangeCorpus recordingCorpus = corpus(CorpusMode.RECORD);
+        proxy(CorpusMode.RECORD, recordingCorpus, client).getPokemonInfo(pokeApiResponse.name());
+        recordingCorpus.save();
+
+        final PokeApiClient offlineClient = mock(PokeApiClient.class);
+        final HttpResponse<PokeApiResponse> replayed =
+                proxy(CorpusMode.REPLAY, corpus(CorpusMode.REPLAY), offlineClient).getPokemonInfo(pokeApiResponse.name());
+
+        assertAll(
+                () -> verifyNoInteractions(offlineClient),
+                () -> assertThat(replayed.code()).isEqualTo(200),
+                () -> assertThat(replayed.header(HttpHeaders.ETAG)).isEqualTo("\"v1\""),
+                () -> assertThat(replayed.getBody()).contains(pokeApiResponse)
+        );
+    }
+
+    @Test
+    @DisplayName("replaying an exchange missing from the corpus should fail")
+    void missingExchangeShouldFail() {
+        final String pokemonName = Instancio.of(String.class).withSeed(2).create();
+        final PokeApiClient client = proxy(CorpusMode.REPLAY, corpus(CorpusMode.REPLAY), mock(PokeApiClient.class));
+
+        assertThrows(CorpusMissException.class, () -> client.getPokemonInfo(pokemonName));
+    }
+
+    @Test
+    @DisplayName("an exchange recorded by a run that did not shut down should be replayed in the next run")
+    void exchangeRecordedBeforeCrashShouldBeReplayed() {
+        final PokeApiResponse pokeApiResponse = Instancio.of(PokeApiResponse.class).withSeed(3).create();
+        final PokeApiClient client = mock(PokeApiClient.class);
+        when(client.getPokemonInfo(pokeApiResponse.name())).thenReturn(HttpResponse.ok(pokeApiResponse));
+
+        // The recording corpus is never saved, as when the process is killed
+        proxy(CorpusMode.RECORD, corpus(CorpusMode.RECORD), client).getPokemonInfo(pokeApiResponse.name());
+
+        final PokeApiClient offlineClient = mock(PokeApiClient.class);
+        final HttpResponse<PokeApiResponse> replayed =
+                proxy(CorpusMode.REPLAY, corpus(CorpusMode.REPLAY), offlineClient).getPokemonInfo(pokeApiResponse.name());
+
+        assertAll(
+                () -> verifyNoInteractions(offlineClient),
+                () -> assertThat(replayed.getBody()).contains(pokeApiResponse)
+        );
+    }
+
+    @Test
+    @DisplayName("successive recording runs should add to the corpus, the last exchange of a key winning")
+    void successiveRecordingsShouldAddToCorpus() {
+        final PokeApiResponse first = Instancio.of(PokeApiResponse.class).withSeed(4).create();
+        final PokeApiResponse second = Instancio.of(PokeApiResponse.class).withSeed(5).create();
+        final PokeApiClient client = mock(PokeApiClient.class);
+        when(client.getPokemonInfo(first.name()))
+                .thenReturn(HttpResponse.ok(first).header(HttpHeaders.ETAG, "\"v1\""))
+                .thenReturn(HttpResponse.ok(first).header(HttpHeaders.ETAG, "\"v2\""));
+        when(client.getPokemonInfo(second.name())).thenReturn(HttpResponse.ok(second));
+
+        final ExchangeCorpus firstRun = corpus(CorpusMode.RECORD);
+        proxy(CorpusMode.RECORD, firstRun, client).getPokemonInfo(first.name());
+        firstRun.save();
+        final ExchangeCorpus secondRun = corpus(CorpusMode.RECORD);
+        proxy(CorpusMode.RECORD, secondRun, client).getPokemonInfo(first.name());
+        proxy(CorpusMode.RECORD, secondRun, client).getPokemonInfo(second.name());
+        secondRun.save();
+
+        final PokeApiClient replayClient = proxy(CorpusMode.REPLAY, corpus(CorpusMode.REPLAY), mock(PokeApiClient.class));
+
+        assertAll(
+                () -> assertThat(replayClient.getPokemonInfo(first.name()).header(HttpHeaders.ETAG)).isEqualTo("\"v2\""),
+                () -> assertThat(replayClient.getPokemonInfo(second.name()).getBody()).contains(second),
+                () -> assertThat(directory).isDirectoryNotContaining("glob:**.journal.jsonl")
+        );
+    }
+
+    private ExchangeCorpus corpus(CorpusMode mode) {
+        final ExchangeCorpus corpus = new ExchangeCorpus(configuration(mode), objectMapper);
+        corpus.load();
+
+        return corpus;
+    }
+
+    private PokeApiClient proxy(CorpusMode mode, ExchangeCorpus corpus, PokeApiClient client) {
+        return CorpusClientProxy.wrap(PokeApiClient.class, Upstream.POKEAPI, client, corpus, configuration(mode), objectMapper);
+    }
+
+    private CorpusConfiguration configuration(CorpusMode mode) {
+        return new CorpusConfiguration(mode, directory.toString(), 0);
+    }
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Locale;
 import java.util.stream.Stream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
@@ -63,17 +64,17 @@ public class PokemonControllerIntegrationTest {
         PokemonInfoResponse pokemonInfo = pokemonInfoResponse.body();
 
         assertAll(
-                () -> assertThat(pokemonInfo.getIsLegendary()).isTrue(),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(pokemonName),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo("rare"),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo("It was created by a scientist after years of horrific gene splicing and DNA engineering experiments.")
+                () -> assertThat(pokemonInfo.isLegendary()).isTrue(),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(pokemonName),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo("rare"),
+                () -> assertThat(pokemonInfo.description()).isEqualTo("It was created by a scientist after years of horrific gene splicing and DNA engineering experiments.")
         );
     }
 
     @MethodSource("provideHttpError")
     @ParameterizedTest(name = "GET /pokemon/some-pokemon in case {0} should return {2}")
     void getPokemonInfoWhenGetErrorFormPokeapiShouldReturnErrors(String errorCaseDescription, ResponseDefinitionBuilder response, int code) {
-        final String pokemonName = Instancio.of(String.class).withSeed(1).create();
+        final String pokemonName = Instancio.of(String.class).withSeed(1).create().toLowerCase(Locale.ROOT);
 
         stubFor(get(urlEqualTo(POKEMON_SPECIES_PATH + pokemonName))
                 .willReturn(response));
@@ -115,10 +116,10 @@ public class PokemonControllerIntegrationTest {
         PokemonInfoResponse pokemonInfo = pokemonInfoResponse.body();
 
         assertAll(
-                () -> assertThat(pokemonInfo.getIsLegendary()).isTrue(),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(pokemonName),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo("rare"),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo("Created by a scientist after years of horrific gene splicing and dna engineering experiments,  it was.")
+                () -> assertThat(pokemonInfo.isLegendary()).isTrue(),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(pokemonName),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo("rare"),
+                () -> assertThat(pokemonInfo.description()).isEqualTo("Created by a scientist after years of horrific gene splicing and dna engineering experiments,  it was.")
         );
     }
 
@@ -151,17 +152,17 @@ public class PokemonControllerIntegrationTest {
         PokemonInfoResponse pokemonInfo = pokemonInfoResponse.body();
 
         assertAll(
-                () -> assertThat(pokemonInfo.getIsLegendary()).isFalse(),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(pokemonName),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo("rare"),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo("'t wast did create by a scientist after years of horrific gene splicing and dna engineering experiments.")
+                () -> assertThat(pokemonInfo.isLegendary()).isFalse(),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(pokemonName),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo("rare"),
+                () -> assertThat(pokemonInfo.description()).isEqualTo("'t wast did create by a scientist after years of horrific gene splicing and dna engineering experiments.")
         );
     }
 
     @MethodSource("provideHttpError")
     @ParameterizedTest(name = "GET /pokemon/translated/some-pokemon in case {0} should return {2}")
     void getTranslatedPokemonInfoWhenGetErrorFormPokeapiShouldReturnErrors(String errorCaseDescription, ResponseDefinitionBuilder response, int code) {
-        final String pokemonName = Instancio.of(String.class).withSeed(1).create();
+        final String pokemonName = Instancio.of(String.class).withSeed(1).create().toLowerCase(Locale.ROOT);
 
         stubFor(get(urlEqualTo(POKEMON_SPECIES_PATH + pokemonName))
                 .willReturn(response));
@@ -204,10 +205,10 @@ public class PokemonControllerIntegrationTest {
         PokemonInfoResponse pokemonInfo = pokemonInfoResponse.body();
 
         assertAll(
-                () -> assertThat(pokemonInfo.getIsLegendary()).isTrue(),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(pokemonName),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo("rare"),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo(flavorText)
+                () -> assertThat(pokemonInfo.isLegendary()).isTrue(),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(pokemonName),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo("rare"),
+                () -> assertThat(pokemonInfo.description()).isEqualTo(flavorText)
         );
 
     }
@@ -0,0 +1,98 @@
+package com.tommasoamadori.pokedex.controller;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.service.PokemonService;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.serde.ObjectMapper;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+@Property(name = "pokedex.response-cache.enabled", value = "true")
+public class PokemonControllerResponseCacheTest {
+
+    @MockBean(PokemonService.class)
+    PokemonService pokemonService() {
+        return mock(PokemonService.class);
+    }
+
+    @Inject
+    private PokemonService pokemonService;
+
+    @Inject
+    private EmbeddedServer server;
+
+    @Inject
+    private ObjectMapper objectMapper;
+
+    // The JDK client never decompresses, so the encoding actually written by the server is observable
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private static final PokemonInfoResponse MEWTWO = new PokemonInfoResponse(
+            "mewtwo",
+            "It was created by a scientist after years of horrific gene splicing and DNA engineering experiments.",
+            "rare",
+            true
+    );
+
+    @Test
+    @DisplayName("GET /pokemon/mewtwo should serve the gzip variant to clients accepting gzip")
+    void getPokemonInfoShouldServeGzipVariant() throws Exception {
+        when(pokemonService.getPokemonInfo(eq("mewtwo"))).thenReturn(MEWTWO);
+
+        HttpResponse<byte[]> response = send("mewtwo", "gzip, deflate");
+
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(200),
+                () -> assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).contains("gzip"),
+                () -> assertThat(objectMapper.readValue(gunzip(response.body()), PokemonInfoResponse.class)).isEqualTo(MEWTWO)
+        );
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/mewtwo should serve the JSON body to clients refusing gzip")
+    void getPokemonInfoShouldServeJsonWhenGzipRefused() throws Exception {
+        when(pokemonService.getPokemonInfo(eq("mewtwo"))).thenReturn(MEWTWO);
+
+        HttpResponse<byte[]> response = send("mewtwo", "gzip;q=0.0");
+
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(200),
+                () -> assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty(),
+                () -> assertThat(objectMapper.readValue(response.body(), PokemonInfoResponse.class)).isEqualTo(MEWTWO)
+        );
+    }
+
+    private HttpResponse<byte[]> send(String name, String acceptEncoding) throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(server.getURL() + "/pokemon/" + name))
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)
+                .GET()
+                .build();
+
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] content) throws IOException {
+        try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return gzipStream.readAllBytes();
+        }
+    }
+}
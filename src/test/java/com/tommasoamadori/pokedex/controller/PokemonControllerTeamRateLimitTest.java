@@ -0,0 +1,101 @@
+package com.tommasoamadori.pokedex.controller;
+
+import com.tommasoamadori.pokedex.dto.request.TeamRequest;
+import com.tommasoamadori.pokedex.dto.response.TeamSummaryResponse;
+import com.tommasoamadori.pokedex.service.PokemonService;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+@Property(name = "pokedex.rate-limit.enabled", value = "true")
+@Property(name = "pokedex.rate-limit.routes.translated.capacity", value = "3")
+@Property(name = "pokedex.rate-limit.routes.translated.refill-per-second", value = "0.001")
+public class PokemonControllerTeamRateLimitTest {
+
+    @MockBean(PokemonService.class)
+    PokemonService pokemonService() {
+        return mock(PokemonService.class);
+    }
+
+    @Inject
+    private PokemonService pokemonService;
+
+    @Inject
+    @Client("/pokemon")
+    private HttpClient client;
+
+    @BeforeEach
+    void stubTeamSummary() {
+        when(pokemonService.getTeamSummary(anyList(), anyBoolean()))
+                .thenReturn(Instancio.of(TeamSummaryResponse.class).withSeed(1).create());
+    }
+
+    @Test
+    @DisplayName("POST /pokemon/team should charge the translated route once per distinct member when translated")
+    void translatedTeamShouldBeChargedPerMember() {
+        final TeamRequest teamRequest = new TeamRequest(List.of("pikachu", "Pikachu", "gengar"), true);
+
+        HttpResponse<TeamSummaryResponse> response = client.toBlocking().exchange(teamRequest("translated-caller", teamRequest), TeamSummaryResponse.class);
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class,
+                () -> client.toBlocking().exchange(teamRequest("translated-caller", teamRequest), TeamSummaryResponse.class));
+
+        assertAll(
+                () -> assertThat(response.getStatus()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(e.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS),
+                () -> assertThat(e.getResponse().getHeaders().get(HttpHeaders.RETRY_AFTER)).isNotBlank(),
+                () -> verify(pokemonService, times(1)).getTeamSummary(anyList(), eq(true))
+        );
+    }
+
+    @Test
+    @DisplayName("POST /pokemon/team should count the members by resolved species, and a rejected name once as written")
+    void translatedTeamShouldBeChargedPerResolvedSpecies() {
+        final TeamRequest teamRequest = new TeamRequest(List.of("Mr. Mime", "mr mime", "??", "??"), true);
+
+        HttpResponse<TeamSummaryResponse> first = client.toBlocking().exchange(teamRequest("resolving-caller", teamRequest), TeamSummaryResponse.class);
+        HttpResponse<TeamSummaryResponse> second = client.toBlocking().exchange(
+                teamRequest("resolving-caller", new TeamRequest(List.of("ditto"), true)), TeamSummaryResponse.class);
+
+        assertAll(
+                () -> assertThat(first.getStatus()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(second.getStatus()).isEqualTo(HttpStatus.OK)
+        );
+    }
+
+    @Test
+    @DisplayName("POST /pokemon/team should not charge the translated route when not translated")
+    void plainTeamShouldNotBeChargedToTranslatedRoute() {
+        final TeamRequest teamRequest = new TeamRequest(List.of("pikachu", "gengar", "mew"), false);
+
+        for (int i = 0; i < 3; i++) {
+            HttpResponse<TeamSummaryResponse> response = client.toBlocking().exchange(teamRequest("plain-caller", teamRequest), TeamSummaryResponse.class);
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK);
+        }
+    }
+
+    private static HttpRequest<TeamRequest> teamRequest(String caller, TeamRequest teamRequest) {
+        return HttpRequest.POST("/team", teamRequest).header("X-Api-Key", caller);
+    }
+}
@@ -1,18 +1,31 @@
 package com.tommasoamadori.pokedex.controller;
 
+import com.tommasoamadori.pokedex.dto.request.TeamRequest;
 import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.dto.response.TeamSummaryResponse;
 import com.tommasoamadori.pokedex.service.PokemonService;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import io.micronaut.test.annotation.MockBean;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -63,4 +76,55 @@ public class PokemonControllerTest {
         );
     }
 
+    @Test
+    @DisplayName("POST /pokemon/team should return response from getTeamSummary")
+    void getTeamSummary() {
+        final TeamRequest teamRequest = new TeamRequest(List.of("pikachu", "gengar"), true);
+        final TeamSummaryResponse teamSummaryResponse = Instancio.of(TeamSummaryResponse.class).withSeed(1).create();
+
+        when(pokemonService.getTeamSummary(eq(teamRequest.names()), eq(true))).thenReturn(teamSummaryResponse);
+
+        TeamSummaryResponse response = client.toBlocking().retrieve(HttpRequest.POST("/team", teamRequest), TeamSummaryResponse.class);
+
+        assertAll(
+                () -> verify(pokemonService, times(1)).getTeamSummary(eq(teamRequest.names()), eq(true)),
+                () -> assertThat(response).isEqualTo(teamSummaryResponse)
+        );
+    }
+
+    @MethodSource("provideInvalidTeamRequest")
+    @ParameterizedTest(name = "POST /pokemon/team with {0} should return 400")
+    void getTeamSummaryWithInvalidRequestShouldReturnBadRequest(String invalidCaseDescription, TeamRequest teamRequest) {
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class,
+                () -> client.toBlocking().exchange(HttpRequest.POST("/team", teamRequest), TeamSummaryResponse.class));
+
+        assertAll(
+                () -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST),
+                () -> verify(pokemonService, never()).getTeamSummary(eq(teamRequest.names()), anyBoolean())
+        );
+    }
+
+    private static Stream<Arguments> provideInvalidTeamRequest() {
+        return Stream.of(
+                Arguments.of("no members", new TeamRequest(List.of(), false)),
+                Arguments.of("more than " + TeamRequest.MAX_MEMBERS + " members",
+                        new TeamRequest(List.of("a", "b", "c", "d", "e", "f", "g"), false)),
+                Arguments.of("a blank name", new TeamRequest(List.of("pikachu", " "), false))
+        );
+    }
+
+    @CsvSource(delimiter = '|', value = {
+            "gzip|true",
+            "deflate, GZIP;q=0.5|true",
+            "gzip;q=0|false",
+            "gzip; q=0.0|false",
+            "gzip;q=0.000|false",
+            "gzip;q=invalid|false",
+            "deflate, br|false"
+    })
+    @ParameterizedTest(name = "acceptsGzip should return {1} for \"{0}\"")
+    void acceptsGzipShouldParseQualityValue(String acceptEncoding, boolean expected) {
+        assertThat(PokemonController.acceptsGzip(acceptEncoding)).isEqualTo(expected);
+    }
+
 }
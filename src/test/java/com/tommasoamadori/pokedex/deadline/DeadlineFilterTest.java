@@ -0,0 +1,46 @@
+package com.tommasoamadori.pokedex.deadline;
+
+import io.micronaut.core.propagation.MutablePropagatedContext;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautTest
+public class DeadlineFilterTest {
+
+    @Inject
+    private DeadlineFilter deadlineFilter;
+
+    @MethodSource("provideRequests")
+    @ParameterizedTest(name = "setDeadline should give {0} a deadline of {2}")
+    void setDeadlineShouldPropagateRequestDeadline(String description, HttpRequest<?> request, Duration expectedTimeout) {
+        final MutablePropagatedContext propagatedContext = MutablePropagatedContext.of(PropagatedContext.empty());
+
+        deadlineFilter.setDeadline(request, propagatedContext);
+
+        final Duration remaining = propagatedContext.getContext().find(DeadlineContext.class).orElseThrow().deadline().remaining();
+        assertThat(remaining)
+                .isLessThanOrEqualTo(expectedTimeout)
+                .isGreaterThan(expectedTimeout.minusSeconds(1));
+    }
+
+    private static Stream<Arguments> provideRequests() {
+        return Stream.of(
+                Arguments.of("a plain request", HttpRequest.GET("/pokemon/mewtwo"), Duration.ofSeconds(5)),
+                Arguments.of("a translated request", HttpRequest.GET("/pokemon/translated/mewtwo"), Duration.ofSeconds(10)),
+                Arguments.of("a request with a timeout header", HttpRequest.GET("/pokemon/translated/mewtwo").header("X-Request-Timeout", "2000"), Duration.ofSeconds(2)),
+                Arguments.of("a request with a timeout header above the maximum", HttpRequest.GET("/pokemon/mewtwo").header("X-Request-Timeout", "600000"), Duration.ofSeconds(30)),
+                Arguments.of("a request with an invalid timeout header", HttpRequest.GET("/pokemon/mewtwo").header("X-Request-Timeout", "-1"), Duration.ofSeconds(5))
+        );
+    }
+}
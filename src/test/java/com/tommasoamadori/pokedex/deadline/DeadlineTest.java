@@ -0,0 +1,46 @@
+package com.tommasoamadori.pokedex.deadline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class DeadlineTest {
+
+    @Test
+    @DisplayName("a deadline should report the time left until it expires")
+    void deadlineShouldReportRemainingTime() {
+        final Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        final Deadline expiredDeadline = Deadline.after(Duration.ZERO);
+
+        assertAll(
+                () -> assertThat(deadline.remaining()).isGreaterThan(Duration.ofSeconds(9)).isLessThanOrEqualTo(Duration.ofSeconds(10)),
+                () -> assertThat(deadline.hasAtLeast(Duration.ofSeconds(5))).isTrue(),
+                () -> assertThat(deadline.hasAtLeast(Duration.ofSeconds(11))).isFalse(),
+                () -> assertThat(deadline.isExpired()).isFalse(),
+                () -> assertThat(expiredDeadline.isExpired()).isTrue(),
+                () -> assertThat(expiredDeadline.remaining()).isEqualTo(Duration.ZERO)
+        );
+    }
+
+    @Test
+    @DisplayName("cancel should run the cancellation actions, also the ones registered afterwards, and leave no budget")
+    void cancelShouldRunCancellationActions() {
+        final Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        final AtomicInteger cancellations = new AtomicInteger();
+
+        deadline.onCancel(cancellations::incrementAndGet);
+        deadline.cancel();
+        deadline.onCancel(cancellations::incrementAndGet);
+
+        assertAll(
+                () -> assertThat(cancellations.get()).isEqualTo(2),
+                () -> assertThat(deadline.isCancelled()).isTrue(),
+                () -> assertThat(deadline.hasAtLeast(Duration.ZERO)).isFalse()
+        );
+    }
+}
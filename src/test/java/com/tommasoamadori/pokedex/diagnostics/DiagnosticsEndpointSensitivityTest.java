@@ -0,0 +1,30 @@
+package com.tommasoamadori.pokedex.diagnostics;
+
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest
+public class DiagnosticsEndpointSensitivityTest {
+
+    @Inject
+    @Client("/")
+    private HttpClient client;
+
+    @Test
+    @DisplayName("GET /diagnostics should be refused unless the endpoint is explicitly made not sensitive")
+    void diagnosticsShouldBeSensitiveByDefault() {
+        HttpClientResponseException exception = assertThrows(HttpClientResponseException.class,
+                () -> client.toBlocking().retrieve("/diagnostics", DiagnosticsReport.class));
+
+        assertThat(exception.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+}
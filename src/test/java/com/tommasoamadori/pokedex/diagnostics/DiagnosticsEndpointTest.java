@@ -0,0 +1,44 @@
+package com.tommasoamadori.pokedex.diagnostics;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@MicronautTest
+@Property(name = "endpoints.diagnostics.sensitive", value = "false")
+public class DiagnosticsEndpointTest {
+
+    @Inject
+    private DiagnosticsRecorder recorder;
+
+    @Inject
+    @Client("/")
+    private HttpClient client;
+
+    @Test
+    @DisplayName("GET /diagnostics should report the recorded species and latencies")
+    void diagnosticsShouldReportRecordedSamples() {
+        recorder.recordSpecies("pikachu");
+        recorder.recordSpecies("pikachu");
+        recorder.recordSpecies("eevee");
+        recorder.recordEndpoint("info", TimeUnit.MILLISECONDS.toNanos(20));
+
+        DiagnosticsReport report = client.toBlocking().retrieve("/diagnostics", DiagnosticsReport.class);
+
+        assertAll(
+                () -> assertThat(report.hotSpecies()).first().isEqualTo(new DiagnosticsReport.HotKey("pikachu", 2, 0)),
+                () -> assertThat(report.endpointLatencies()).containsKey("info"),
+                () -> assertThat(report.endpointLatencies().get("info").count()).isEqualTo(1),
+                () -> assertThat(report.caches()).containsOnlyKeys("near", "negative", "response")
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package com.tommasoamadori.pokedex.diagnostics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class HeavyHittersTest {
+
+    @Test
+    @DisplayName("top should keep the frequent keys among many rare ones, never underestimating them without contention")
+    void topShouldReturnFrequentKeys() {
+        final HeavyHitters heavyHitters = new HeavyHitters(8);
+
+        for (int i = 0; i < 60; i++) {
+            heavyHitters.record("pikachu");
+            heavyHitters.record("rare-" + i);
+            if (i % 2 == 0) {
+                heavyHitters.record("eevee");
+            }
+            heavyHitters.record("pikachu");
+        }
+
+        final List<DiagnosticsReport.HotKey> top = heavyHitters.top(2);
+
+        assertAll(
+                () -> assertThat(top).extracting(DiagnosticsReport.HotKey::key).containsExactly("pikachu", "eevee"),
+                () -> assertThat(top.get(0).count()).isGreaterThanOrEqualTo(120),
+                () -> assertThat(top.get(1).count()).isGreaterThanOrEqualTo(30),
+                () -> assertThat(top.get(1).count() - top.get(1).error()).isLessThanOrEqualTo(30)
+        );
+    }
+
+    @Test
+    @DisplayName("top should sum the counts a key collected in different stripes")
+    void topShouldMergeStripes() throws Exception {
+        final HeavyHitters heavyHitters = new HeavyHitters(8, 4);
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        // One thread at a time, so that no sample is dropped while the keys spread over the stripes
+        try {
+            for (int thread = 0; thread < 8; thread++) {
+                final String threadKey = "thread-" + thread;
+                executorService.submit(() -> {
+                    for (int i = 0; i < 10; i++) {
+                        heavyHitters.record("pikachu");
+                    }
+                    heavyHitters.record(threadKey);
+                }).get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        final List<DiagnosticsReport.HotKey> top = heavyHitters.top(1);
+
+        assertAll(
+                () -> assertThat(top).extracting(DiagnosticsReport.HotKey::key).containsExactly("pikachu"),
+                () -> assertThat(top.get(0).count()).isEqualTo(80),
+                () -> assertThat(top.get(0).error()).isZero()
+        );
+    }
+}
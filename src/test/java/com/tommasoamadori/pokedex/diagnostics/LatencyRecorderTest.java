@@ -0,0 +1,51 @@
+package com.tommasoamadori.pokedex.diagnostics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class LatencyRecorderTest {
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    @Test
+    @DisplayName("snapshot should report the percentiles of every sample recorded since startup")
+    void snapshotShouldAccumulateSamples() {
+        for (int millis = 1; millis <= 50; millis++) {
+            recorder.record("info", TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        final DiagnosticsReport.LatencySnapshot first = recorder.snapshot().get("info");
+
+        for (int millis = 51; millis <= 100; millis++) {
+            recorder.record("info", TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        final DiagnosticsReport.LatencySnapshot second = recorder.snapshot().get("info");
+
+        assertAll(
+                () -> assertThat(first.count()).isEqualTo(50),
+                () -> assertThat(first.maxMillis()).isCloseTo(50, within(1.0)),
+                () -> assertThat(second.count()).isEqualTo(100),
+                () -> assertThat(second.p50Millis()).isCloseTo(50, within(1.0)),
+                () -> assertThat(second.p90Millis()).isCloseTo(90, within(1.0)),
+                () -> assertThat(second.p99Millis()).isCloseTo(99, within(1.0)),
+                () -> assertThat(second.maxMillis()).isCloseTo(100, within(1.0))
+        );
+    }
+
+    @Test
+    @DisplayName("snapshot should keep one histogram per name and clamp negative samples")
+    void snapshotShouldSeparateNames() {
+        recorder.record("info", TimeUnit.MILLISECONDS.toNanos(10));
+        recorder.record("translated info", -1);
+
+        assertAll(
+                () -> assertThat(recorder.snapshot()).containsOnlyKeys("info", "translated info"),
+                () -> assertThat(recorder.snapshot().get("translated info").maxMillis()).isZero()
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package com.tommasoamadori.pokedex.grpc;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.grpc.api.PokedexGrpc;
+import com.tommasoamadori.pokedex.grpc.api.PokemonBatchRequest;
+import com.tommasoamadori.pokedex.grpc.api.PokemonBatchResponse;
+import com.tommasoamadori.pokedex.grpc.api.PokemonResult;
+import com.tommasoamadori.pokedex.service.PokemonService;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.MetadataUtils;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.grpc.annotation.GrpcChannel;
+import io.micronaut.grpc.server.GrpcServerChannel;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+@Property(name = "pokedex.rate-limit.enabled", value = "true")
+@Property(name = "pokedex.rate-limit.routes.translated.capacity", value = "3")
+@Property(name = "pokedex.rate-limit.routes.translated.refill-per-second", value = "0.001")
+public class LimitsServerInterceptorTest {
+
+    private static final Metadata.Key<String> API_KEY = Metadata.Key.of("x-api-key", Metadata.ASCII_STRING_MARSHALLER);
+
+    @MockBean(PokemonService.class)
+    PokemonService pokemonService() {
+        return mock(PokemonService.class);
+    }
+
+    @Inject
+    private PokemonService pokemonService;
+
+    @Inject
+    private PokedexGrpc.PokedexBlockingStub stub;
+
+    @BeforeEach
+    void stubLookups() {
+        when(pokemonService.getTranslatedPokemonInfo(any()))
+                .thenReturn(Instancio.of(PokemonInfoResponse.class).withSeed(1).create());
+    }
+
+    @Test
+    @DisplayName("A translated batch should be charged one token per distinct species")
+    void translatedBatchShouldBeChargedPerDistinctSpecies() {
+        final PokedexGrpc.PokedexBlockingStub callerStub = stubOf("batch-caller");
+
+        PokemonBatchResponse response = callerStub.getPokemonInfoBatch(
+                translatedBatch("pikachu", "Pikachu", "mr. mime", "Mr Mime", "eevee"));
+        StatusRuntimeException e = catchThrowableOfType(
+                () -> callerStub.getPokemonInfoBatch(translatedBatch("ditto")),
+                StatusRuntimeException.class);
+
+        assertAll(
+                () -> assertThat(response.getResultsCount()).isEqualTo(3),
+                () -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED)
+        );
+    }
+
+    @Test
+    @DisplayName("A translated batch larger than the capacity of the route should be rejected without being charged")
+    void translatedBatchLargerThanCapacityShouldBeRejected() {
+        final PokedexGrpc.PokedexBlockingStub callerStub = stubOf("large-batch-caller");
+
+        StatusRuntimeException e = catchThrowableOfType(
+                () -> callerStub.getPokemonInfoBatch(translatedBatch("pikachu", "eevee", "mew", "ditto")),
+                StatusRuntimeException.class);
+        PokemonBatchResponse response = callerStub.getPokemonInfoBatch(translatedBatch("pikachu", "eevee", "mew"));
+
+        assertAll(
+                () -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT),
+                () -> assertThat(response.getResultsCount()).isEqualTo(3),
+                () -> verify(pokemonService, never()).getTranslatedPokemonInfo("ditto")
+        );
+    }
+
+    @Test
+    @DisplayName("A translated batch should keep every rejected name as its own result and charge it")
+    void translatedBatchShouldKeepRejectedNames() {
+        final PokedexGrpc.PokedexBlockingStub callerStub = stubOf("rejected-names-caller");
+
+        PokemonBatchResponse response = callerStub.getPokemonInfoBatch(translatedBatch("pikachu", "pikachu?!", "0", "0"));
+        StatusRuntimeException e = catchThrowableOfType(
+                () -> callerStub.getPokemonInfoBatch(translatedBatch("ditto")),
+                StatusRuntimeException.class);
+
+        assertAll(
+                () -> assertThat(response.getResultsList()).extracting(PokemonResult::getName)
+                        .containsExactly("pikachu", "pikachu?!", "0"),
+                () -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED)
+        );
+    }
+
+    private PokedexGrpc.PokedexBlockingStub stubOf(String caller) {
+        final Metadata headers = new Metadata();
+        headers.put(API_KEY, caller);
+
+        return stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private static PokemonBatchRequest translatedBatch(String... names) {
+        return PokemonBatchRequest.newBuilder()
+                .addAllNames(List.of(names))
+                .setTranslated(true)
+                .build();
+    }
+
+    @Factory
+    static class Clients {
+
+        @Bean
+        PokedexGrpc.PokedexBlockingStub blockingStub(@GrpcChannel(GrpcServerChannel.NAME) ManagedChannel channel) {
+            return PokedexGrpc.newBlockingStub(channel);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.tommasoamadori.pokedex.grpc;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.exception.PokemonNotFoundException;
+import com.tommasoamadori.pokedex.grpc.api.PokedexGrpc;
+import com.tommasoamadori.pokedex.grpc.api.PokemonBatchRequest;
+import com.tommasoamadori.pokedex.grpc.api.PokemonBatchResponse;
+import com.tommasoamadori.pokedex.grpc.api.PokemonInfo;
+import com.tommasoamadori.pokedex.grpc.api.PokemonRequest;
+import com.tommasoamadori.pokedex.grpc.api.PokemonResult;
+import com.tommasoamadori.pokedex.service.PokemonService;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.grpc.annotation.GrpcChannel;
+import io.micronaut.grpc.server.GrpcServerChannel;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+public class PokedexGrpcServiceTest {
+
+    @MockBean(PokemonService.class)
+    PokemonService pokemonService() {
+        return mock(PokemonService.class);
+    }
+
+    @Inject
+    private PokemonService pokemonService;
+
+    @Inject
+    private PokedexGrpc.PokedexBlockingStub stub;
+
+    @Test
+    @DisplayName("GetPokemonInfo should return the response of getPokemonInfo")
+    void getPokemonInfo() {
+        final String pokemonName = Instancio.of(String.class).withSeed(1).create();
+        final PokemonInfoResponse pokemonInfoResponse = Instancio.of(PokemonInfoResponse.class).withSeed(1).create();
+
+        when(pokemonService.getPokemonInfo(eq(pokemonName))).thenReturn(pokemonInfoResponse);
+
+        PokemonInfo response = stub.getPokemonInfo(PokemonRequest.newBuilder().setName(pokemonName).build());
+
+        assertAll(
+                () -> assertThat(response.getName()).isEqualTo(pokemonInfoResponse.name()),
+                () -> assertThat(response.getDescription()).isEqualTo(pokemonInfoResponse.description()),
+                () -> assertThat(response.getHabitat()).isEqualTo(pokemonInfoResponse.habitat()),
+                () -> assertThat(response.getIsLegendary()).isEqualTo(pokemonInfoResponse.isLegendary())
+        );
+    }
+
+    @Test
+    @DisplayName("GetTranslatedPokemonInfo should fail with NOT_FOUND when the Pokémon does not exist")
+    void getTranslatedPokemonInfoNotFound() {
+        final String pokemonName = Instancio.of(String.class).withSeed(2).create();
+
+        when(pokemonService.getTranslatedPokemonInfo(eq(pokemonName))).thenThrow(new PokemonNotFoundException(pokemonName));
+
+        StatusRuntimeException e = catchThrowableOfType(
+                () -> stub.getTranslatedPokemonInfo(PokemonRequest.newBuilder().setName(pokemonName).build()),
+                StatusRuntimeException.class);
+
+        assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("GetPokemonInfoBatch should look up duplicated names once and report failures per name")
+    void getPokemonInfoBatch() {
+        final String foundName = Instancio.of(String.class).withSeed(3).create();
+        final String missingName = Instancio.of(String.class).withSeed(4).create();
+        final PokemonInfoResponse pokemonInfoResponse = Instancio.of(PokemonInfoResponse.class).withSeed(3).create();
+
+        when(pokemonService.getPokemonInfo(eq(foundName))).thenReturn(pokemonInfoResponse);
+        when(pokemonService.getPokemonInfo(eq(missingName))).thenThrow(new PokemonNotFoundException(missingName));
+
+        PokemonBatchResponse response = stub.getPokemonInfoBatch(PokemonBatchRequest.newBuilder()
+                .addAllNames(List.of(foundName, missingName, foundName))
+                .build());
+
+        assertAll(
+                () -> verify(pokemonService, times(1)).getPokemonInfo(eq(foundName)),
+                () -> assertThat(response.getResultsList()).extracting(PokemonResult::getName).containsExactly(foundName, missingName),
+                () -> assertThat(response.getResults(0).getInfo().getName()).isEqualTo(pokemonInfoResponse.name()),
+                () -> assertThat(response.getResults(1).getError().getCode()).isEqualTo(Status.Code.NOT_FOUND.name())
+        );
+    }
+
+    @Test
+    @DisplayName("GetPokemonInfoBatch should fail with INVALID_ARGUMENT when no name is requested")
+    void getPokemonInfoBatchEmpty() {
+        StatusRuntimeException e = catchThrowableOfType(
+                () -> stub.getPokemonInfoBatch(PokemonBatchRequest.getDefaultInstance()),
+                StatusRuntimeException.class);
+
+        assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    @Factory
+    static class Clients {
+
+        @Bean
+        PokedexGrpc.PokedexBlockingStub blockingStub(@GrpcChannel(GrpcServerChannel.NAME) ManagedChannel channel) {
+            return PokedexGrpc.newBlockingStub(channel);
+        }
+    }
+}
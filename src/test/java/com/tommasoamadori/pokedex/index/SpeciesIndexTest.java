@@ -0,0 +1,83 @@
+package com.tommasoamadori.pokedex.index;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.snapshot.SpeciesSnapshotStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class SpeciesIndexTest {
+
+    private SpeciesSnapshotStore snapshotStore;
+    private SpeciesIndex speciesIndex;
+
+    @BeforeEach
+    void setUp() {
+        snapshotStore = new SpeciesSnapshotStore();
+        speciesIndex = new SpeciesIndex(snapshotStore);
+
+        record(41, "zubat", "cave", false);
+        record(95, "onix", "cave", false);
+        record(144, "articuno", "rare", true);
+        record(150, "mewtwo", "rare", true);
+        record(377, "regirock", "cave", true);
+    }
+
+    @Test
+    @DisplayName("query should intersect habitat, legendary status and dex range")
+    void queryShouldIntersectFilters() {
+        final SpeciesQueryResult result = speciesIndex.query(new SpeciesQuery("cave", true, 1, 151, 0, 50));
+        final SpeciesQueryResult legendaries = speciesIndex.query(new SpeciesQuery(null, true, 1, 1000, 0, 50));
+        final SpeciesQueryResult nonLegendaryCave = speciesIndex.query(new SpeciesQuery("CAVE", false, 1, 1000, 0, 50));
+
+        assertAll(
+                () -> assertThat(result.results()).isEmpty(),
+                () -> assertThat(result.lastDexNumber()).isNull(),
+                () -> assertThat(result.indexedSpecies()).isEqualTo(5),
+                () -> assertThat(legendaries.results()).extracting(PokemonInfoResponse::name)
+                        .containsExactly("articuno", "mewtwo", "regirock"),
+                () -> assertThat(nonLegendaryCave.results()).extracting(PokemonInfoResponse::name)
+                        .containsExactly("zubat", "onix")
+        );
+    }
+
+    @Test
+    @DisplayName("query should paginate in dex order")
+    void queryShouldPaginate() {
+        final SpeciesQueryResult firstPage = speciesIndex.query(new SpeciesQuery(null, null, 1, 1000, 0, 2));
+        final SpeciesQueryResult secondPage = speciesIndex.query(new SpeciesQuery(null, null, 1, 1000, firstPage.lastDexNumber(), 2));
+        final SpeciesQueryResult lastPage = speciesIndex.query(new SpeciesQuery(null, null, 1, 1000, secondPage.lastDexNumber(), 2));
+
+        assertAll(
+                () -> assertThat(firstPage.results()).extracting(PokemonInfoResponse::name).containsExactly("zubat", "onix"),
+                () -> assertThat(firstPage.lastDexNumber()).isEqualTo(95),
+                () -> assertThat(secondPage.results()).extracting(PokemonInfoResponse::name).containsExactly("articuno", "mewtwo"),
+                () -> assertThat(lastPage.results()).extracting(PokemonInfoResponse::name).containsExactly("regirock"),
+                () -> assertThat(lastPage.lastDexNumber()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("query should see species recorded after the previous query")
+    void queryShouldFollowSnapshotUpdates() {
+        assertThat(speciesIndex.query(new SpeciesQuery("sea", null, 1, 1000, 0, 50)).results()).isEmpty();
+
+        record(131, "lapras", "sea", false);
+
+        assertThat(speciesIndex.query(new SpeciesQuery("sea", null, 1, 1000, 0, 50)).results())
+                .extracting(PokemonInfoResponse::name)
+                .containsExactly("lapras");
+    }
+
+    private void record(int dexNumber, String name, String habitat, boolean legendary) {
+        snapshotStore.record(dexNumber, PokemonInfoResponse.builder()
+                .name(name)
+                .description(name)
+                .habitat(habitat)
+                .isLegendary(legendary)
+                .build(), null);
+    }
+}
@@ -0,0 +1,85 @@
+package com.tommasoamadori.pokedex.index;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.snapshot.SpeciesSnapshotStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class SpeciesSearchIndexTest {
+
+    private SpeciesSnapshotStore snapshotStore;
+    private SpeciesSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        snapshotStore = new SpeciesSnapshotStore();
+        searchIndex = new SpeciesSearchIndex(snapshotStore);
+
+        record(25, "pikachu", "When several of these Pokémon gather, their electricity could build and cause lightning storms.");
+        record(26, "raichu", "Its long tail serves as a ground to protect itself from its own high voltage power.");
+        record(122, "mr-mime", "If interrupted while it is miming, it will slap around the offender with its broad hands.");
+        record(150, "mewtwo", "It was created by a scientist after years of horrific gene splicing and DNA engineering experiments.");
+        record(151, "mew", "So rare that it is still said to be a mirage by many experts.");
+    }
+
+    @Test
+    @DisplayName("search should rank an exact name before prefix matches")
+    void searchShouldRankExactNameFirst() {
+        assertThat(searchIndex.search("mew", 10))
+                .extracting(PokemonInfoResponse::name)
+                .containsExactly("mew", "mewtwo");
+    }
+
+    @Test
+    @DisplayName("search should tolerate typos and punctuation in names")
+    void searchShouldTolerateTypos() {
+        assertAll(
+                () -> assertThat(searchIndex.search("pikachuu", 10)).extracting(PokemonInfoResponse::name).containsExactly("pikachu"),
+                () -> assertThat(searchIndex.search("Mr. Mime", 10)).extracting(PokemonInfoResponse::name).first().isEqualTo("mr-mime"),
+                () -> assertThat(searchIndex.search("mrmime", 10)).extracting(PokemonInfoResponse::name).containsExactly("mr-mime")
+        );
+    }
+
+    @Test
+    @DisplayName("search should match words of the description")
+    void searchShouldMatchDescriptions() {
+        assertThat(searchIndex.search("lightning", 10))
+                .extracting(PokemonInfoResponse::name)
+                .containsExactly("pikachu");
+    }
+
+    @Test
+    @DisplayName("search should re-index a species whose description changed")
+    void searchShouldFollowSnapshotUpdates() {
+        record(26, "raichu", "It can loose 100,000-volt bursts of electricity.");
+
+        assertAll(
+                () -> assertThat(searchIndex.search("voltage", 10)).isEmpty(),
+                () -> assertThat(searchIndex.search("bursts", 10)).extracting(PokemonInfoResponse::name).containsExactly("raichu"),
+                () -> assertThat(searchIndex.indexedSpecies()).isEqualTo(5)
+        );
+    }
+
+    @Test
+    @DisplayName("isWithinDistance should bound the edit distance")
+    void isWithinDistanceShouldBoundEditDistance() {
+        assertAll(
+                () -> assertThat(SpeciesSearchIndex.isWithinDistance("bulbasaur", "bulbasuar", 2)).isTrue(),
+                () -> assertThat(SpeciesSearchIndex.isWithinDistance("bulbasaur", "bulbasuar", 1)).isFalse(),
+                () -> assertThat(SpeciesSearchIndex.isWithinDistance("onix", "onyx", 1)).isTrue()
+        );
+    }
+
+    private void record(int dexNumber, String name, String description) {
+        snapshotStore.record(dexNumber, PokemonInfoResponse.builder()
+                .name(name)
+                .description(description)
+                .habitat("forest")
+                .isLegendary(false)
+                .build(), null);
+    }
+}
@@ -0,0 +1,17 @@
+package com.tommasoamadori.pokedex.profiling;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventSizesTest {
+
+    @ParameterizedTest(name = "utf8Length of \"{0}\" should match its UTF-8 encoding")
+    @ValueSource(strings = {"", "mewtwo", "Pokémon", "ポケモン", "🐾 paws", "lone \uD83D surrogate"})
+    void utf8LengthShouldMatchEncoding(String text) {
+        assertThat(EventSizes.utf8Length(text)).isEqualTo(text.getBytes(StandardCharsets.UTF_8).length);
+    }
+}
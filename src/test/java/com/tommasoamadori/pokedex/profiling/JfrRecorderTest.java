@@ -0,0 +1,62 @@
+package com.tommasoamadori.pokedex.profiling;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class JfrRecorderTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("JfrRecorder should keep the recording running until closed, then write it to the destination")
+    void jfrRecorderShouldRecordUntilClosed() {
+        final Path destination = directory.resolve("pokedex.jfr");
+        final JfrRecorder jfrRecorder = new JfrRecorder(
+                new JfrConfiguration(true, "default", Duration.ofHours(1), 10_000_000, destination.toString()));
+
+        jfrRecorder.onApplicationEvent(null);
+        final Optional<Recording> recording = pokedexRecording();
+        jfrRecorder.close();
+
+        assertAll(
+                () -> assertThat(recording).get()
+                        .extracting(Recording::getMaxAge, Recording::getMaxSize)
+                        .containsExactly(Duration.ofHours(1), 10_000_000L),
+                () -> assertThat(recording.map(Recording::getState)).contains(RecordingState.CLOSED),
+                () -> assertThat(pokedexRecording()).isEmpty(),
+                () -> assertThat(destination).exists(),
+                () -> assertThat(Files.size(destination)).isPositive()
+        );
+    }
+
+    @Test
+    @DisplayName("JfrRecorder should not fail the startup on unknown settings")
+    void jfrRecorderShouldIgnoreUnknownSettings() {
+        final JfrRecorder jfrRecorder = new JfrRecorder(
+                new JfrConfiguration(true, "unknown", Duration.ofHours(1), 10_000_000, null));
+
+        jfrRecorder.onApplicationEvent(null);
+
+        assertThat(pokedexRecording()).isEmpty();
+        jfrRecorder.close();
+    }
+
+    private static Optional<Recording> pokedexRecording() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getName().equals("pokedex"))
+                .findFirst();
+    }
+}
@@ -0,0 +1,141 @@
+package com.tommasoamadori.pokedex.profiling;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.tommasoamadori.pokedex.service.PokemonService;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest
+@WireMockTest(httpPort = 8888)
+@Property(name = "micronaut.http.services.pokeapi.url", value = "http://localhost:8888")
+@Property(name = "micronaut.http.services.funtranslations.url", value = "http://localhost:8888")
+public class ProfilingEventsTest {
+
+    private static final String POKEMON_SPECIES_PATH = "/api/v2/pokemon-species/";
+    private static final String SPECIES_FETCH = "com.tommasoamadori.pokedex.SpeciesFetch";
+    private static final String TRANSLATION_CALL = "com.tommasoamadori.pokedex.TranslationCall";
+    private static final String FLAVOR_TEXT_SELECTION = "com.tommasoamadori.pokedex.FlavorTextSelection";
+
+    @Inject
+    private PokemonService pokemonService;
+
+    private final List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+
+    private RecordingStream recordingStream;
+
+    @BeforeEach
+    void startRecording() {
+        recordingStream = new RecordingStream();
+        recordingStream.setMaxAge(Duration.ofMinutes(1));
+        for (String eventName : List.of(SPECIES_FETCH, TRANSLATION_CALL, FLAVOR_TEXT_SELECTION)) {
+            recordingStream.enable(eventName).withoutThreshold();
+            recordingStream.onEvent(eventName, events::add);
+        }
+        recordingStream.startAsync();
+    }
+
+    @AfterEach
+    void stopRecording() {
+        recordingStream.close();
+    }
+
+    @Test
+    @DisplayName("getPokemonInfo should record the fetch and the flavor text selection with sizes in bytes")
+    void getPokemonInfoShouldRecordFetchAndSelection() throws IOException, InterruptedException {
+        final String pokemonName = "jfr-fetched";
+        final String responseBody = Files.readString(Paths.get("src/test/resources/mewtwo.json"));
+
+        stubFor(get(urlEqualTo(POKEMON_SPECIES_PATH + pokemonName))
+                .willReturn(okJson(responseBody)));
+
+        final String description = pokemonService.getPokemonInfo(pokemonName).description();
+
+        final RecordedEvent fetchEvent = awaitEvent(SPECIES_FETCH, event -> pokemonName.equals(event.getString("species")));
+        final RecordedEvent selectionEvent = awaitEvent(FLAVOR_TEXT_SELECTION, event -> "mewtwo".equals(event.getString("species")));
+
+        assertAll(
+                () -> assertThat(fetchEvent.getInt("status")).isEqualTo(200),
+                () -> assertThat(fetchEvent.getLong("payloadSize")).isEqualTo(responseBody.getBytes(StandardCharsets.UTF_8).length),
+                () -> assertThat(fetchEvent.getString("failure")).isNull(),
+                () -> assertThat(selectionEvent.getLong("descriptionSize")).isEqualTo(description.getBytes(StandardCharsets.UTF_8).length)
+        );
+    }
+
+    @Test
+    @DisplayName("getPokemonInfo should record the fetch when PokeAPI fails")
+    void getPokemonInfoShouldRecordFailedFetch() throws InterruptedException {
+        final String pokemonName = "jfr-failed";
+
+        stubFor(get(urlEqualTo(POKEMON_SPECIES_PATH + pokemonName))
+                .willReturn(serverError()));
+
+        assertThrows(RuntimeException.class, () -> pokemonService.getPokemonInfo(pokemonName));
+
+        final RecordedEvent fetchEvent = awaitEvent(SPECIES_FETCH, event -> pokemonName.equals(event.getString("species")));
+
+        assertAll(
+                () -> assertThat(fetchEvent.getString("failure")).isNotBlank(),
+                () -> assertThat(fetchEvent.getLong("payloadSize")).isEqualTo(-1)
+        );
+    }
+
+    @Test
+    @DisplayName("getTranslatedPokemonInfo should record the translation call with sizes in bytes")
+    void getTranslatedPokemonInfoShouldRecordTranslationCall() throws IOException, InterruptedException {
+        final String pokemonName = "jfr-translated";
+
+        stubFor(get(urlEqualTo(POKEMON_SPECIES_PATH + pokemonName))
+                .willReturn(okJson(Files.readString(Paths.get("src/test/resources/mewtwo.json")))));
+        stubFor(post(urlEqualTo("/translate/yoda"))
+                .willReturn(okJson(Files.readString(Paths.get("src/test/resources/yoda.json")))));
+
+        final String original = pokemonService.getPokemonInfo(pokemonName).description();
+        final String translation = pokemonService.getTranslatedPokemonInfo(pokemonName).description();
+
+        final RecordedEvent translationEvent = awaitEvent(TRANSLATION_CALL, event -> "mewtwo".equals(event.getString("species")));
+
+        assertAll(
+                () -> assertThat(translationEvent.getBoolean("translated")).isTrue(),
+                () -> assertThat(translationEvent.getLong("textSize")).isEqualTo(original.getBytes(StandardCharsets.UTF_8).length),
+                () -> assertThat(translationEvent.getLong("translationSize")).isEqualTo(translation.getBytes(StandardCharsets.UTF_8).length)
+        );
+    }
+
+    /**
+     * Events reach the stream when the recording is flushed, about once a second.
+     */
+    private RecordedEvent awaitEvent(String eventName, Predicate<RecordedEvent> matching) throws InterruptedException {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            for (RecordedEvent event : events) {
+                if (event.getEventType().getName().equals(eventName) && matching.test(event)) {
+                    return event;
+                }
+            }
+            Thread.sleep(50);
+        }
+
+        throw new AssertionError("No %s event recorded".formatted(eventName));
+    }
+}
@@ -0,0 +1,25 @@
+package com.tommasoamadori.pokedex.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class RateLimitFilterTest {
+
+    @Test
+    @DisplayName("remoteAddress should return the IP address, or the host name when unresolved")
+    void remoteAddressShouldHandleUnresolvedAddresses() throws Exception {
+        final InetSocketAddress resolved = new InetSocketAddress(InetAddress.getByAddress(new byte[]{10, 0, 0, 1}), 443);
+        final InetSocketAddress unresolved = InetSocketAddress.createUnresolved("client.example", 443);
+
+        assertAll(
+                () -> assertThat(RateLimitFilter.remoteAddress(resolved)).isEqualTo("10.0.0.1"),
+                () -> assertThat(RateLimitFilter.remoteAddress(unresolved)).isEqualTo("client.example")
+        );
+    }
+}
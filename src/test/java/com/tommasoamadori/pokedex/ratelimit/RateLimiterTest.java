@@ -0,0 +1,80 @@
+package com.tommasoamadori.pokedex.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RateLimiterTest {
+
+    private static final RateLimitConfiguration configuration =
+            new RateLimitConfiguration(true, "X-Api-Key", 1000, Duration.ofMinutes(10));
+
+    private static final RouteRateLimitConfiguration route =
+            new RouteRateLimitConfiguration("translated", "/pokemon/translated/", 3, 1);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+    private final RateLimiter rateLimiter = new RateLimiter(configuration, clock::get);
+
+    @Test
+    @DisplayName("tryAcquire should admit a burst up to the capacity and then reject")
+    void tryAcquireShouldAdmitBurstUpToCapacity() {
+        assertAll(
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-a")).isZero(),
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-a")).isZero(),
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-a")).isZero(),
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-a")).isEqualTo(TimeUnit.SECONDS.toNanos(1))
+        );
+    }
+
+    @Test
+    @DisplayName("tryAcquire should admit again once a token has been refilled")
+    void tryAcquireShouldAdmitAfterRefill() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(route, "team-a");
+        }
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertAll(
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-a")).isZero(),
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-a")).isPositive()
+        );
+    }
+
+    @Test
+    @DisplayName("tryAcquire should keep separate buckets for each caller")
+    void tryAcquireShouldKeepSeparateBucketsPerCaller() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(route, "team-a");
+        }
+
+        assertAll(
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-a")).isPositive(),
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-b")).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("tryAcquire should take several tokens at once, or none of them")
+    void tryAcquireShouldTakeSeveralTokensAtOnce() {
+        assertAll(
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-a", 2)).isZero(),
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-a", 2)).isEqualTo(TimeUnit.SECONDS.toNanos(1)),
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-a", 1)).isZero(),
+                () -> assertThat(rateLimiter.tryAcquire(route, "team-a", 1)).isPositive()
+        );
+    }
+
+    @Test
+    @DisplayName("tryAcquire should refuse more tokens than the capacity")
+    void tryAcquireShouldRefuseMoreTokensThanCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> rateLimiter.tryAcquire(route, "team-a", 4));
+    }
+}
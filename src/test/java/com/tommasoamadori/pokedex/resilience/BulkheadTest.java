@@ -0,0 +1,58 @@
+package com.tommasoamadori.pokedex.resilience;
+
+import com.tommasoamadori.pokedex.exception.BulkheadFullException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BulkheadTest {
+
+    @Test
+    @DisplayName("execute should reject a call when every slot is busy")
+    void executeShouldRejectWhenFull() throws InterruptedException {
+        final Bulkhead bulkhead = new Bulkhead(new BulkheadConfiguration("funtranslations", 1, Duration.ofMillis(10)));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> busyCall = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        }));
+        started.await();
+
+        assertAll(
+                () -> assertThat(bulkhead.getInUse()).isEqualTo(1),
+                () -> assertThrows(BulkheadFullException.class, () -> bulkhead.execute(() -> "rejected"))
+        );
+
+        release.countDown();
+        assertThat(busyCall.join()).isEqualTo("done");
+    }
+
+    @Test
+    @DisplayName("execute should release the slot when the call fails")
+    void executeShouldReleaseSlotOnFailure() {
+        final Bulkhead bulkhead = new Bulkhead(new BulkheadConfiguration("pokeapi", 1, Duration.ofMillis(10)));
+
+        assertThrows(IllegalStateException.class, () -> bulkhead.execute(() -> {
+            throw new IllegalStateException();
+        }));
+
+        assertAll(
+                () -> assertThat(bulkhead.getInUse()).isZero(),
+                () -> assertThat(bulkhead.execute(() -> "ok")).isEqualTo("ok")
+        );
+    }
+}
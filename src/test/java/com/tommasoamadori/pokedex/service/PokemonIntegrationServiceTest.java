@@ -50,10 +50,10 @@ public class PokemonIntegrationServiceTest {
         verify(getRequestedFor(urlEqualTo(POKEMON_SPECIES_PATH + pokemonName)));
 
         assertAll(
-                () -> assertThat(pokemonInfo.getIsLegendary()).isTrue(),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(pokemonName),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo("rare"),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo("It was created by a scientist after years of horrific gene splicing and DNA engineering experiments.")
+                () -> assertThat(pokemonInfo.isLegendary()).isTrue(),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(pokemonName),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo("rare"),
+                () -> assertThat(pokemonInfo.description()).isEqualTo("It was created by a scientist after years of horrific gene splicing and DNA engineering experiments.")
         );
     }
 
@@ -123,10 +123,10 @@ public class PokemonIntegrationServiceTest {
         assertAll(
                 () -> verify(getRequestedFor(urlEqualTo(POKEMON_SPECIES_PATH + pokemonName))),
                 () -> verify(postRequestedFor(urlPathEqualTo(TRANSLATE_YODA_PATH)).withRequestBody(matching("text=.*"))),
-                () -> assertThat(pokemonInfo.getIsLegendary()).isEqualTo(isLegendary),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(pokemonName),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo(habitat),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo("Created by a scientist after years of horrific gene splicing and dna engineering experiments,  it was.")
+                () -> assertThat(pokemonInfo.isLegendary()).isEqualTo(isLegendary),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(pokemonName),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo(habitat),
+                () -> assertThat(pokemonInfo.description()).isEqualTo("Created by a scientist after years of horrific gene splicing and dna engineering experiments,  it was.")
         );
     }
 
@@ -152,10 +152,10 @@ public class PokemonIntegrationServiceTest {
                 () -> verify(exactly(1), getRequestedFor(urlEqualTo(POKEMON_SPECIES_PATH + pokemonName))),
                 () -> verify(exactly(1), postRequestedFor(urlPathEqualTo(TRANSLATE_SHAKESPEARE_PATH)).withRequestBody(matching("text=.*"))),
                 () -> verify(exactly(0), postRequestedFor(urlPathEqualTo(TRANSLATE_YODA_PATH))),
-                () -> assertThat(pokemonInfo.getIsLegendary()).isFalse(),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(pokemonName),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo("rare"),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo("'t wast did create by a scientist after years of horrific gene splicing and dna engineering experiments.")
+                () -> assertThat(pokemonInfo.isLegendary()).isFalse(),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(pokemonName),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo("rare"),
+                () -> assertThat(pokemonInfo.description()).isEqualTo("'t wast did create by a scientist after years of horrific gene splicing and dna engineering experiments.")
         );
     }
 
@@ -179,10 +179,10 @@ public class PokemonIntegrationServiceTest {
                 () -> verify(exactly(1), getRequestedFor(urlEqualTo(POKEMON_SPECIES_PATH + pokemonName))),
                 () -> verify(exactly(1), postRequestedFor(urlPathEqualTo(TRANSLATE_SHAKESPEARE_PATH)).withRequestBody(matching("text=.*"))),
                 () -> verify(exactly(0), postRequestedFor(urlPathEqualTo(TRANSLATE_YODA_PATH))),
-                () -> assertThat(pokemonInfo.getIsLegendary()).isFalse(),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(pokemonName),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo("rare"),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo("It was created by a scientist after years of horrific gene splicing and DNA engineering experiments.")
+                () -> assertThat(pokemonInfo.isLegendary()).isFalse(),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(pokemonName),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo("rare"),
+                () -> assertThat(pokemonInfo.description()).isEqualTo("It was created by a scientist after years of horrific gene splicing and DNA engineering experiments.")
         );
     }
 }
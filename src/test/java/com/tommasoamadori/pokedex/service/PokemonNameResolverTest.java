@@ -0,0 +1,57 @@
+package com.tommasoamadori.pokedex.service;
+
+import com.tommasoamadori.pokedex.exception.PokemonNotFoundException;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest
+@Property(name = "pokedex.resolver.aliases.pikachu-cosplay", value = "pikachu")
+public class PokemonNameResolverTest {
+
+    @Inject
+    private PokemonNameResolver nameResolver;
+
+    @CsvSource({
+            "Pikachu,pikachu",
+            "' pikachu ',pikachu",
+            "Mr. Mime,mr-mime",
+            "Farfetch'd,farfetchd",
+            "Flabébé,flabebe",
+            "Nidoran♀,nidoran-f",
+            "pikachu_cosplay,pikachu",
+            "Ho-Oh,ho-oh"
+    })
+    @ParameterizedTest(name = "resolve should map {0} to {1}")
+    void resolveShouldReturnCanonicalName(String name, String expected) {
+        assertThat(nameResolver.resolve(name)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("resolve should map a known dex number to its species name")
+    void resolveShouldMapKnownDexNumber() {
+        nameResolver.register(150, "mewtwo");
+
+        assertThat(nameResolver.resolve("0150")).isEqualTo("mewtwo");
+    }
+
+    @Test
+    @DisplayName("resolve should keep an unknown dex number as is")
+    void resolveShouldKeepUnknownDexNumber() {
+        assertThat(nameResolver.resolve("1000")).isEqualTo("1000");
+    }
+
+    @ValueSource(strings = {"", "0", "99999", "pika chu!", "<script>", "-pikachu", "abcdefghijklmnopqrstuvwxyzabcdefghij"})
+    @ParameterizedTest(name = "resolve should reject \"{0}\"")
+    void resolveShouldRejectImpossibleNames(String name) {
+        assertThrows(PokemonNotFoundException.class, () -> nameResolver.resolve(name));
+    }
+}
@@ -0,0 +1,93 @@
+package com.tommasoamadori.pokedex.service;
+
+import com.tommasoamadori.pokedex.client.api.funtranslations.FunTranslationsClient;
+import com.tommasoamadori.pokedex.client.api.pokeapi.PokeApiClient;
+import com.tommasoamadori.pokedex.constant.Language;
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.PokeApiResponse;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.model.FlavorLanguageModel;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.model.FlavorTextModel;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.model.HabitatModel;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.field;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+@Property(name = "pokedex.translation.policy", value = "LOCAL_ONLY")
+public class PokemonServiceLocalTranslationTest {
+
+    @Inject
+    private PokemonService pokemonService;
+
+    @MockBean(PokeApiClient.class)
+    private PokeApiClient pokeApiClient() {
+        return mock(PokeApiClient.class);
+    }
+
+    @Inject
+    private PokeApiClient pokeApiClient;
+
+    @MockBean(FunTranslationsClient.class)
+    private FunTranslationsClient funTranslationsClient() {
+        return mock(FunTranslationsClient.class);
+    }
+
+    @Inject
+    private FunTranslationsClient funTranslationsClient;
+
+    private static final FlavorLanguageModel en = Instancio.of(FlavorLanguageModel.class).withSeed(1)
+            .set(field(FlavorLanguageModel::name), Language.EN.getCode())
+            .create();
+
+    private static final HabitatModel habitatRareModel = Instancio.of(HabitatModel.class).withSeed(1)
+            .set(field(HabitatModel::name), "rare")
+            .create();
+
+    @Test
+    @DisplayName("getTranslatedPokemonInfoWithOutcome should translate with the local engine only")
+    void getTranslatedPokemonInfoShouldTranslateLocally() {
+        final String pokemonName = "local-translation";
+        when(pokeApiClient.getPokemonInfo(pokemonName))
+                .thenReturn(HttpResponse.ok(pokeApiResponse(pokemonName, "You are my friend and your power has grown.")));
+
+        TranslatedPokemonInfo translated = pokemonService.getTranslatedPokemonInfoWithOutcome(pokemonName);
+
+        assertAll(
+                () -> verifyNoInteractions(funTranslationsClient),
+                () -> assertThat(translated.info().description()).isEqualTo("Thou art my friend and thy power hath grown."),
+                () -> assertThat(translated.fallback()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("getTranslatedPokemonInfoWithOutcome should keep a description the local engine cannot translate")
+    void getTranslatedPokemonInfoShouldNotCallRemoteEngine() {
+        final String pokemonName = "local-blank";
+        when(pokeApiClient.getPokemonInfo(pokemonName)).thenReturn(HttpResponse.ok(pokeApiResponse(pokemonName, " ")));
+
+        TranslatedPokemonInfo translated = pokemonService.getTranslatedPokemonInfoWithOutcome(pokemonName);
+        PokemonInfoResponse pokemonInfo = translated.info();
+
+        assertAll(
+                () -> verifyNoInteractions(funTranslationsClient),
+                () -> assertThat(pokemonInfo.description()).isEqualTo(" "),
+                () -> assertThat(translated.fallback()).isTrue()
+        );
+    }
+
+    private static PokeApiResponse pokeApiResponse(String name, String description) {
+        return new PokeApiResponse(1, name, habitatRareModel, false, List.of(new FlavorTextModel(description, en)));
+    }
+}
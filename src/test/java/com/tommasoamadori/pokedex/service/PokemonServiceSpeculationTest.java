@@ -0,0 +1,141 @@
+package com.tommasoamadori.pokedex.service;
+
+import com.tommasoamadori.pokedex.client.api.funtranslations.FunTranslationsClient;
+import com.tommasoamadori.pokedex.client.api.pokeapi.PokeApiClient;
+import com.tommasoamadori.pokedex.constant.Language;
+import com.tommasoamadori.pokedex.dto.request.funtranslations.TranslateRequest;
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.dto.response.funtranslations.FunTranslationsResponse;
+import com.tommasoamadori.pokedex.dto.response.funtranslations.model.TranslationContentModel;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.PokeApiResponse;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.model.FlavorLanguageModel;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.model.FlavorTextModel;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.model.HabitatModel;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.field;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+@Property(name = "pokedex.translation.prefetch.speculative", value = "true")
+@Property(name = "pokedex.translation.prefetch.neighbours", value = "1")
+public class PokemonServiceSpeculationTest {
+
+    @Inject
+    private PokemonService pokemonService;
+
+    @MockBean(PokeApiClient.class)
+    private PokeApiClient pokeApiClient() {
+        return mock(PokeApiClient.class);
+    }
+
+    @Inject
+    private PokeApiClient pokeApiClient;
+
+    @MockBean(FunTranslationsClient.class)
+    private FunTranslationsClient funTranslationsClient() {
+        return mock(FunTranslationsClient.class);
+    }
+
+    @Inject
+    private FunTranslationsClient funTranslationsClient;
+
+    private static final FlavorLanguageModel en = Instancio.of(FlavorLanguageModel.class).withSeed(1)
+            .set(field(FlavorLanguageModel::name), Language.EN.getCode())
+            .create();
+
+    private static final HabitatModel habitatRareModel = Instancio.of(HabitatModel.class).withSeed(1)
+            .set(field(HabitatModel::name), "rare")
+            .create();
+
+    @Test
+    @DisplayName("getTranslatedPokemonInfo should translate a known species while retrieving it and reuse the translation")
+    void getTranslatedPokemonInfoShouldReuseSpeculativeTranslation() {
+        final String pokemonName = "speculation-match";
+        final PokeApiResponse pokeApiResponse = pokeApiResponse(pokemonName, 100, "The original description");
+        final TranslateRequest translateRequest = new TranslateRequest("The original description");
+        final CountDownLatch translationStarted = new CountDownLatch(1);
+
+        when(pokeApiClient.getPokemonInfo(pokemonName)).thenReturn(HttpResponse.ok(pokeApiResponse));
+        pokemonService.getPokemonInfo(pokemonName);
+
+        // The species is only returned once its translation has started, which requires the two to overlap
+        when(pokeApiClient.getPokemonInfo(pokemonName)).thenAnswer(invocation -> translationStarted.await(5, TimeUnit.SECONDS)
+                ? HttpResponse.ok(pokeApiResponse)
+                : HttpResponse.serverError());
+        when(funTranslationsClient.translateShakespeare(translateRequest)).thenAnswer(invocation -> {
+            translationStarted.countDown();
+            return HttpResponse.ok(translated("The translated description"));
+        });
+
+        PokemonInfoResponse pokemonInfo = pokemonService.getTranslatedPokemonInfo(pokemonName);
+
+        assertAll(
+                () -> verify(funTranslationsClient, times(1)).translateShakespeare(any()),
+                () -> assertThat(pokemonInfo.description()).isEqualTo("The translated description"),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(pokemonName)
+        );
+    }
+
+    @Test
+    @DisplayName("getTranslatedPokemonInfo should discard the speculative translation when the species description changed")
+    void getTranslatedPokemonInfoShouldDiscardSpeculativeTranslationOfChangedSpecies() {
+        final String pokemonName = "speculation-change";
+
+        when(pokeApiClient.getPokemonInfo(pokemonName)).thenReturn(HttpResponse.ok(pokeApiResponse(pokemonName, 200, "The old description")));
+        pokemonService.getPokemonInfo(pokemonName);
+
+        when(pokeApiClient.getPokemonInfo(pokemonName)).thenReturn(HttpResponse.ok(pokeApiResponse(pokemonName, 200, "The new description")));
+        when(funTranslationsClient.translateShakespeare(any())).thenAnswer(invocation ->
+                HttpResponse.ok(translated("Translated " + invocation.<TranslateRequest>getArgument(0).text())));
+
+        PokemonInfoResponse pokemonInfo = pokemonService.getTranslatedPokemonInfo(pokemonName);
+
+        assertAll(
+                () -> verify(funTranslationsClient, timeout(1000).times(1)).translateShakespeare(eq(new TranslateRequest("The old description"))),
+                () -> verify(funTranslationsClient, times(1)).translateShakespeare(eq(new TranslateRequest("The new description"))),
+                () -> assertThat(pokemonInfo.description()).isEqualTo("Translated The new description")
+        );
+    }
+
+    @Test
+    @DisplayName("getTranslatedPokemonInfo should translate the following species of a known one in background")
+    void getTranslatedPokemonInfoShouldPrefetchNeighbours() {
+        final String pokemonName = "prefetch-origin";
+        final String neighbourName = "prefetch-neighbour";
+
+        when(pokeApiClient.getPokemonInfo(pokemonName)).thenReturn(HttpResponse.ok(pokeApiResponse(pokemonName, 300, "The origin description")));
+        when(pokeApiClient.getPokemonInfo("301")).thenReturn(HttpResponse.ok(pokeApiResponse(neighbourName, 301, "The neighbour description")));
+        when(funTranslationsClient.translateShakespeare(any())).thenAnswer(invocation ->
+                HttpResponse.ok(translated("Translated " + invocation.<TranslateRequest>getArgument(0).text())));
+        pokemonService.getPokemonInfo(pokemonName);
+
+        pokemonService.getTranslatedPokemonInfo(pokemonName);
+
+        assertAll(
+                () -> verify(pokeApiClient, timeout(1000).times(1)).getPokemonInfo(eq("301")),
+                () -> verify(funTranslationsClient, timeout(1000).times(1)).translateShakespeare(eq(new TranslateRequest("The neighbour description")))
+        );
+    }
+
+    private static PokeApiResponse pokeApiResponse(String name, int dexNumber, String description) {
+        return new PokeApiResponse(dexNumber, name, habitatRareModel, false, List.of(new FlavorTextModel(description, en)));
+    }
+
+    private static FunTranslationsResponse translated(String translation) {
+        return new FunTranslationsResponse(new TranslationContentModel(translation));
+    }
+}
@@ -3,8 +3,11 @@ package com.tommasoamadori.pokedex.service;
 import com.tommasoamadori.pokedex.client.api.funtranslations.FunTranslationsClient;
 import com.tommasoamadori.pokedex.client.api.pokeapi.PokeApiClient;
 import com.tommasoamadori.pokedex.constant.Language;
+import com.tommasoamadori.pokedex.deadline.Deadline;
+import com.tommasoamadori.pokedex.deadline.DeadlineContext;
 import com.tommasoamadori.pokedex.dto.request.funtranslations.TranslateRequest;
 import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.dto.response.TeamSummaryResponse;
 import com.tommasoamadori.pokedex.dto.response.funtranslations.FunTranslationsResponse;
 import com.tommasoamadori.pokedex.dto.response.pokeapi.PokeApiResponse;
 import com.tommasoamadori.pokedex.dto.response.pokeapi.model.FlavorLanguageModel;
@@ -13,6 +16,7 @@ import com.tommasoamadori.pokedex.dto.response.pokeapi.model.HabitatModel;
 import com.tommasoamadori.pokedex.exception.NoValidFlavorTextException;
 import com.tommasoamadori.pokedex.exception.PokemonNotFoundException;
 import com.tommasoamadori.pokedex.exception.UnexpectedResponseBodyException;
+import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import io.micronaut.test.annotation.MockBean;
@@ -25,7 +29,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -56,7 +63,7 @@ public class PokemonServiceTest {
     @Inject
     private FunTranslationsClient funTranslationsClient;
 
-    private static final String pokemonName = Instancio.of(String.class).withSeed(1).create();
+    private static final String pokemonName = Instancio.of(String.class).withSeed(1).create().toLowerCase(Locale.ROOT);
 
     private static final FlavorLanguageModel en = Instancio.of(FlavorLanguageModel.class).withSeed(1)
             .set(field(FlavorLanguageModel::name), Language.EN.getCode())
@@ -93,10 +100,10 @@ public class PokemonServiceTest {
 
         assertAll(
                 () -> verify(pokeApiClient, times(1)).getPokemonInfo(eq(pokemonName)),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo(enTextModel.flavorText()),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo(pokeApiResponse.habitat().name()),
-                () -> assertThat(pokemonInfo.getIsLegendary()).isEqualTo(pokeApiResponse.isLegendary()),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(pokeApiResponse.name())
+                () -> assertThat(pokemonInfo.description()).isEqualTo(enTextModel.flavorText()),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo(pokeApiResponse.habitat().name()),
+                () -> assertThat(pokemonInfo.isLegendary()).isEqualTo(pokeApiResponse.isLegendary()),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(pokeApiResponse.name())
         );
     }
 
@@ -118,7 +125,7 @@ public class PokemonServiceTest {
     @Test
     @DisplayName("getPokemonInfo should throw if no valid body is returned from PokeApiClient")
     void getPokemonInfoShouldThrowWithNotValidBodyResponse() {
-        final String pokemonName = Instancio.of(String.class).withSeed(1).create();
+        final String pokemonName = Instancio.of(String.class).withSeed(1).create().toLowerCase(Locale.ROOT);
 
         when(pokeApiClient.getPokemonInfo(pokemonName)).thenReturn(HttpResponse.ok(null));
 
@@ -128,13 +135,22 @@ public class PokemonServiceTest {
     @Test
     @DisplayName("getPokemonInfo should throw PokemonNotFoundException if notFound status is returned from PokeApiClient")
     void getPokemonInfoShouldThrowWithNotFoundResponse() {
-        final String pokemonName = Instancio.of(String.class).withSeed(1).create();
+        final String pokemonName = Instancio.of(String.class).withSeed(1).create().toLowerCase(Locale.ROOT);
 
         when(pokeApiClient.getPokemonInfo(pokemonName)).thenReturn(HttpResponse.notFound());
 
         assertThrows(PokemonNotFoundException.class, () -> pokemonService.getPokemonInfo(pokemonName));
     }
 
+    @Test
+    @DisplayName("getPokemonInfo should throw PokemonNotFoundException without calling PokeApiClient when the name is not valid")
+    void getPokemonInfoShouldRejectInvalidNameWithoutCallingPokeApi() {
+        assertAll(
+                () -> assertThrows(PokemonNotFoundException.class, () -> pokemonService.getPokemonInfo("not a pokémon!")),
+                () -> verify(pokeApiClient, times(0)).getPokemonInfo(any())
+        );
+    }
+
     @MethodSource("providePokeApiResponseForYodaTranslation")
     @ParameterizedTest(name = "getTranslatedPokemonInfo should call pokeApiClient, funTranslationClient with yoda translation when is {1} pokémon")
     void getTranslatedPokemonInfoShouldReturnYodaTranslationWhenIsLegendaryPokemon(PokeApiResponse pokeApiResponse, String characteristic) {
@@ -152,10 +168,10 @@ public class PokemonServiceTest {
                 () -> verify(pokeApiClient, times(1)).getPokemonInfo(eq(pokemonName)),
                 () -> verify(funTranslationsClient, times(1)).translateYoda(eq(translateRequest)),
                 () -> verify(funTranslationsClient, times(0)).translateShakespeare(any()),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo(funTranslationsResponse.contents().translated()),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo(pokeApiResponse.habitat().name()),
-                () -> assertThat(pokemonInfo.getIsLegendary()).isEqualTo(pokeApiResponse.isLegendary()),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(pokeApiResponse.name())
+                () -> assertThat(pokemonInfo.description()).isEqualTo(funTranslationsResponse.contents().translated()),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo(pokeApiResponse.habitat().name()),
+                () -> assertThat(pokemonInfo.isLegendary()).isEqualTo(pokeApiResponse.isLegendary()),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(pokeApiResponse.name())
         );
     }
 
@@ -185,10 +201,10 @@ public class PokemonServiceTest {
                 () -> verify(pokeApiClient, times(1)).getPokemonInfo(eq(pokemonName)),
                 () -> verify(funTranslationsClient, times(0)).translateYoda(any()),
                 () -> verify(funTranslationsClient, times(1)).translateShakespeare(eq(translateRequest)),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo(funTranslationsResponse.contents().translated()),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo(notLegendaryPokemon.habitat().name()),
-                () -> assertThat(pokemonInfo.getIsLegendary()).isEqualTo(notLegendaryPokemon.isLegendary()),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(notLegendaryPokemon.name())
+                () -> assertThat(pokemonInfo.description()).isEqualTo(funTranslationsResponse.contents().translated()),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo(notLegendaryPokemon.habitat().name()),
+                () -> assertThat(pokemonInfo.isLegendary()).isEqualTo(notLegendaryPokemon.isLegendary()),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(notLegendaryPokemon.name())
         );
     }
 
@@ -215,13 +231,132 @@ public class PokemonServiceTest {
                 () -> verify(pokeApiClient, times(1)).getPokemonInfo(eq(pokemonName)),
                 () -> verify(funTranslationsClient, times(0)).translateYoda(any()),
                 () -> verify(funTranslationsClient, times(1)).translateShakespeare(eq(translateRequest)),
-                () -> assertThat(pokemonInfo.getDescription()).isEqualTo(enTextModel.flavorText()),
-                () -> assertThat(pokemonInfo.getHabitat()).isEqualTo(notLegendaryPokemon.habitat().name()),
-                () -> assertThat(pokemonInfo.getIsLegendary()).isEqualTo(notLegendaryPokemon.isLegendary()),
-                () -> assertThat(pokemonInfo.getName()).isEqualTo(notLegendaryPokemon.name())
+                () -> assertThat(pokemonInfo.description()).isEqualTo(enTextModel.flavorText()),
+                () -> assertThat(pokemonInfo.habitat()).isEqualTo(notLegendaryPokemon.habitat().name()),
+                () -> assertThat(pokemonInfo.isLegendary()).isEqualTo(notLegendaryPokemon.isLegendary()),
+                () -> assertThat(pokemonInfo.name()).isEqualTo(notLegendaryPokemon.name())
+        );
+    }
+
+    @Test
+    @DisplayName("getTranslatedPokemonInfo should keep the original description without calling funTranslationClient when the deadline is too close")
+    void getTranslatedPokemonInfoShouldSkipTranslationWithoutTranslationBudget() {
+        final PokeApiResponse notLegendaryPokemon = Instancio
+                .of(PokeApiResponse.class)
+                .withSeed(1)
+                .set(field(PokeApiResponse::name), pokemonName)
+                .set(field(PokeApiResponse::isLegendary), false)
+                .set(field(PokeApiResponse::habitat), habitatRareModel)
+                .set(field(PokeApiResponse::flavorTextEntries), List.of(enTextModel, itTextModel))
+                .create();
+
+        when(pokeApiClient.getPokemonInfo(pokemonName)).thenReturn(HttpResponse.ok(notLegendaryPokemon));
+
+        // Below the 500ms minimum translation budget
+        final Deadline deadline = Deadline.after(Duration.ofMillis(300));
+        final PokemonInfoResponse pokemonInfo;
+        try (PropagatedContext.Scope ignored = PropagatedContext.getOrEmpty().plus(new DeadlineContext(deadline)).propagate()) {
+            pokemonInfo = pokemonService.getTranslatedPokemonInfo(pokemonName);
+        }
+
+        assertAll(
+                () -> verify(funTranslationsClient, times(0)).translateShakespeare(any()),
+                () -> verify(funTranslationsClient, times(0)).translateYoda(any()),
+                () -> assertThat(pokemonInfo.description()).isEqualTo(enTextModel.flavorText())
+        );
+    }
+
+    @Test
+    @DisplayName("getTeamSummary should retrieve each species once, report unknown names and aggregate the members")
+    void getTeamSummaryShouldDeduplicateAndAggregate() {
+        final PokeApiResponse legendaryPokemon = Instancio
+                .of(PokeApiResponse.class)
+                .withSeed(1)
+                .set(field(PokeApiResponse::name), pokemonName)
+                .set(field(PokeApiResponse::isLegendary), true)
+                .set(field(PokeApiResponse::habitat), habitatRareModel)
+                .set(field(PokeApiResponse::flavorTextEntries), List.of(enTextModel, itTextModel))
+                .create();
+
+        when(pokeApiClient.getPokemonInfo(pokemonName)).thenReturn(HttpResponse.ok(legendaryPokemon));
+
+        TeamSummaryResponse teamSummary = pokemonService.getTeamSummary(
+                List.of(pokemonName, pokemonName.toUpperCase(Locale.ROOT), "not a pokémon!"), false);
+
+        assertAll(
+                () -> verify(pokeApiClient, times(1)).getPokemonInfo(eq(pokemonName)),
+                () -> verify(funTranslationsClient, times(0)).translateYoda(any()),
+                () -> assertThat(teamSummary.members()).hasSize(1),
+                () -> assertThat(teamSummary.members().get(0).info().name()).isEqualTo(pokemonName),
+                () -> assertThat(teamSummary.members().get(0).translatedDescription()).isNull(),
+                () -> assertThat(teamSummary.notFound()).containsExactly("not a pokémon!"),
+                () -> assertThat(teamSummary.legendaryCount()).isEqualTo(1),
+                () -> assertThat(teamSummary.habitats()).containsExactlyEntriesOf(Map.of(habitatRareModel.name(), 1))
         );
     }
 
+    @Test
+    @DisplayName("getTeamSummary should translate the description of every member when translated")
+    void getTeamSummaryShouldTranslateMembers() {
+        final String legendaryName = "team-legendary";
+        final String caveName = "team-cave";
+        final PokeApiResponse legendaryPokemon = Instancio
+                .of(PokeApiResponse.class)
+                .withSeed(2)
+                .set(field(PokeApiResponse::name), legendaryName)
+                .set(field(PokeApiResponse::isLegendary), true)
+                .set(field(PokeApiResponse::habitat), habitatRareModel)
+                .set(field(PokeApiResponse::flavorTextEntries), List.of(enTextModel))
+                .create();
+        final PokeApiResponse cavePokemon = Instancio
+                .of(PokeApiResponse.class)
+                .withSeed(3)
+                .set(field(PokeApiResponse::name), caveName)
+                .set(field(PokeApiResponse::isLegendary), false)
+                .set(field(PokeApiResponse::habitat), habitatCaveModel)
+                .set(field(PokeApiResponse::flavorTextEntries), List.of(enTextModel))
+                .create();
+        final TranslateRequest translateRequest = new TranslateRequest(enTextModel.flavorText());
+        final FunTranslationsResponse funTranslationsResponse = Instancio.of(FunTranslationsResponse.class).withSeed(4).create();
+
+        when(pokeApiClient.getPokemonInfo(legendaryName)).thenReturn(HttpResponse.ok(legendaryPokemon));
+        when(pokeApiClient.getPokemonInfo(caveName)).thenReturn(HttpResponse.ok(cavePokemon));
+        when(funTranslationsClient.translateYoda(translateRequest)).thenReturn(HttpResponse.ok(funTranslationsResponse));
+
+        TeamSummaryResponse teamSummary = pokemonService.getTeamSummary(List.of(legendaryName, caveName), true);
+
+        assertAll(
+                () -> verify(funTranslationsClient, atLeastOnce()).translateYoda(eq(translateRequest)),
+                () -> verify(funTranslationsClient, times(0)).translateShakespeare(any()),
+                () -> assertThat(teamSummary.members()).extracting(member -> member.info().name()).containsExactly(legendaryName, caveName),
+                () -> assertThat(teamSummary.members()).extracting(TeamSummaryResponse.Member::translatedDescription)
+                        .containsOnly(funTranslationsResponse.contents().translated()),
+                () -> assertThat(teamSummary.members()).extracting(member -> member.info().description())
+                        .containsOnly(enTextModel.flavorText()),
+                () -> assertThat(teamSummary.legendaryCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("getTeamSummary should fail when PokeApiClient fails for a member")
+    void getTeamSummaryShouldFailOnUpstreamFailure() {
+        final String failingName = "team-failing";
+        final String foundName = "team-found";
+        final PokeApiResponse foundPokemon = Instancio
+                .of(PokeApiResponse.class)
+                .withSeed(5)
+                .set(field(PokeApiResponse::name), foundName)
+                .set(field(PokeApiResponse::flavorTextEntries), List.of(enTextModel))
+                .create();
+
+        when(pokeApiClient.getPokemonInfo(foundName)).thenReturn(HttpResponse.ok(foundPokemon));
+        when(pokeApiClient.getPokemonInfo(failingName))
+                .thenThrow(new HttpClientResponseException("A problem has occured", HttpResponse.serverError()));
+
+        assertThrows(HttpClientResponseException.class,
+                () -> pokemonService.getTeamSummary(List.of(foundName, failingName), false));
+    }
+
     private static Stream<Arguments> providePokeApiResponseForYodaTranslation() {
         final PokeApiResponse legendaryPokemon = Instancio
                 .of(PokeApiResponse.class)
@@ -0,0 +1,126 @@
+package com.tommasoamadori.pokedex.service;
+
+import com.tommasoamadori.pokedex.cache.CacheKeys;
+import com.tommasoamadori.pokedex.cache.TwoTierCache;
+import com.tommasoamadori.pokedex.client.UpstreamInvoker;
+import com.tommasoamadori.pokedex.client.api.pokeapi.PokeApiClient;
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import com.tommasoamadori.pokedex.dto.response.pokeapi.PokeApiResponse;
+import com.tommasoamadori.pokedex.exception.UnexpectedResponseBodyException;
+import com.tommasoamadori.pokedex.snapshot.SpeciesEntry;
+import com.tommasoamadori.pokedex.snapshot.SpeciesSnapshotStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.field;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class SpeciesRefresherTest {
+
+    private final PokeApiClient pokeApiClient = mock(PokeApiClient.class);
+    private final UpstreamInvoker upstreamInvoker = mock(UpstreamInvoker.class);
+    private final PokeApiSpeciesMapper speciesMapper = mock(PokeApiSpeciesMapper.class);
+    private final TwoTierCache cache = mock(TwoTierCache.class);
+    private final SpeciesSnapshotStore snapshotStore = new SpeciesSnapshotStore();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SpeciesRefresher refresher = new SpeciesRefresher(
+            pokeApiClient,
+            upstreamInvoker,
+            speciesMapper,
+            snapshotStore,
+            cache,
+            new RefreshConfiguration(true, Duration.ofHours(1), 10),
+            meterRegistry
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(upstreamInvoker.invoke(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Test
+    @DisplayName("refresh should apply changed species at once and count every revalidation result")
+    void refreshShouldApplyChangesAndCountResults() {
+        final PokemonInfoResponse bulbasaur = record(1, "bulbasaur");
+        final PokemonInfoResponse ivysaur = record(2, "ivysaur");
+        final PokemonInfoResponse venusaur = record(3, "venusaur");
+        record(4, "charmander");
+        final long version = snapshotStore.current().version();
+
+        when(pokeApiClient.getPokemonInfoIfChanged(eq("bulbasaur"), eq("\"v1\"")))
+                .thenReturn(HttpResponse.status(HttpStatus.NOT_MODIFIED));
+        respond("ivysaur", 2, ivysaur);
+        final PokemonInfoResponse changedVenusaur = respond("venusaur", 3, venusaur.withDescription("A changed description."));
+        when(pokeApiClient.getPokemonInfoIfChanged(eq("charmander"), anyString()))
+                .thenThrow(new UnexpectedResponseBodyException(PokeApiClient.class.getSimpleName()));
+
+        refresher.refresh();
+
+        assertAll(
+                () -> assertThat(snapshotStore.current().version()).isEqualTo(version + 1),
+                () -> assertThat(snapshotStore.find("bulbasaur")).contains(new SpeciesEntry(1, bulbasaur, "\"v1\"")),
+                () -> assertThat(snapshotStore.find("ivysaur")).contains(new SpeciesEntry(2, ivysaur, "\"v2\"")),
+                () -> assertThat(snapshotStore.find("venusaur")).contains(new SpeciesEntry(3, changedVenusaur, "\"v2\"")),
+                () -> verify(cache, times(1)).invalidate(CacheKeys.info("venusaur")),
+                () -> verify(cache, never()).invalidate(CacheKeys.info("ivysaur")),
+                () -> assertThat(revalidated("unchanged")).isEqualTo(1),
+                () -> assertThat(revalidated("etag-changed")).isEqualTo(1),
+                () -> assertThat(revalidated("changed")).isEqualTo(1),
+                () -> assertThat(revalidated("failed")).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("refresh should not create a snapshot version when nothing changed")
+    void refreshShouldKeepVersionWhenNothingChanged() {
+        record(1, "bulbasaur");
+        final long version = snapshotStore.current().version();
+        when(pokeApiClient.getPokemonInfoIfChanged(anyString(), anyString()))
+                .thenReturn(HttpResponse.status(HttpStatus.NOT_MODIFIED));
+
+        refresher.refresh();
+
+        assertAll(
+                () -> assertThat(snapshotStore.current().version()).isEqualTo(version),
+                () -> verify(cache, never()).invalidate(anyString()),
+                () -> assertThat(revalidated("unchanged")).isEqualTo(1)
+        );
+    }
+
+    private PokemonInfoResponse record(int id, String name) {
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(id)
+                .set(field(PokemonInfoResponse::name), name)
+                .create();
+        snapshotStore.record(id, pokemonInfo, "\"v1\"");
+
+        return pokemonInfo;
+    }
+
+    private PokemonInfoResponse respond(String name, int id, PokemonInfoResponse freshInfo) {
+        final PokeApiResponse body = Instancio.of(PokeApiResponse.class).withSeed(id).create();
+        when(speciesMapper.toPokemonInfo(body)).thenReturn(freshInfo);
+        when(pokeApiClient.getPokemonInfoIfChanged(eq(name), eq("\"v1\"")))
+                .thenReturn(HttpResponse.ok(body).header(HttpHeaders.ETAG, "\"v2\""));
+
+        return freshInfo;
+    }
+
+    private double revalidated(String result) {
+        return meterRegistry.counter("pokedex.snapshot.refresh.revalidated", "result", result).count();
+    }
+}
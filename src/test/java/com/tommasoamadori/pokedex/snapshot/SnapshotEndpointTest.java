@@ -0,0 +1,45 @@
+package com.tommasoamadori.pokedex.snapshot;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@MicronautTest
+@Property(name = "endpoints.snapshot.sensitive", value = "false")
+public class SnapshotEndpointTest {
+
+    @Inject
+    private SpeciesSnapshotStore snapshotStore;
+
+    @Inject
+    @Client("/")
+    private HttpClient client;
+
+    @Test
+    @DisplayName("POST /snapshot should roll back the species changed by the last update")
+    void snapshotShouldRollBackLastUpdate() {
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(1).create();
+        snapshotStore.record(1, pokemonInfo, null);
+        snapshotStore.apply(Map.of(pokemonInfo.name(), new SpeciesEntry(1, pokemonInfo.withDescription("changed"), null)));
+
+        SnapshotRollback rollback = client.toBlocking().retrieve(HttpRequest.POST("/snapshot", Map.of()), SnapshotRollback.class);
+
+        assertAll(
+                () -> assertThat(rollback.revertedSpecies()).containsExactly(pokemonInfo.name()),
+                () -> assertThat(rollback.version()).isEqualTo(snapshotStore.current().version()),
+                () -> assertThat(snapshotStore.find(pokemonInfo.name())).contains(new SpeciesEntry(1, pokemonInfo, null))
+        );
+    }
+}
@@ -0,0 +1,126 @@
+package com.tommasoamadori.pokedex.snapshot;
+
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class SpeciesSnapshotStoreTest {
+
+    private final SpeciesSnapshotStore snapshotStore = new SpeciesSnapshotStore();
+
+    @Test
+    @DisplayName("apply should swap in a single new version with the changed entries only")
+    void applyShouldSwapChangedEntries() {
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(1).create();
+        final PokemonInfoResponse changedInfo = pokemonInfo.withDescription("changed");
+        snapshotStore.record(1, pokemonInfo, "\"v1\"");
+        final long version = snapshotStore.current().version();
+
+        final boolean unchangedApplied = snapshotStore.apply(Map.of(pokemonInfo.name(), new SpeciesEntry(1, pokemonInfo, "\"v1\"")));
+        final boolean changedApplied = snapshotStore.apply(Map.of(pokemonInfo.name(), new SpeciesEntry(1, changedInfo, "\"v2\"")));
+
+        assertAll(
+                () -> assertThat(unchangedApplied).isFalse(),
+                () -> assertThat(changedApplied).isTrue(),
+                () -> assertThat(snapshotStore.current().version()).isEqualTo(version + 1),
+                () -> assertThat(snapshotStore.find(pokemonInfo.name())).contains(new SpeciesEntry(1, changedInfo, "\"v2\""))
+        );
+    }
+
+    @Test
+    @DisplayName("rollback should restore the entries replaced by the last update as a new version")
+    void rollbackShouldRestorePreviousEntries() {
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(3).create();
+        final PokemonInfoResponse addedInfo = Instancio.of(PokemonInfoResponse.class).withSeed(4).create();
+        snapshotStore.record(3, pokemonInfo, null);
+        snapshotStore.apply(Map.of(
+                pokemonInfo.name(), new SpeciesEntry(3, pokemonInfo.withDescription("changed"), null),
+                addedInfo.name(), new SpeciesEntry(4, addedInfo, null)
+        ));
+        final long version = snapshotStore.current().version();
+
+        assertAll(
+                () -> assertThat(snapshotStore.rollback()).containsExactlyInAnyOrder(pokemonInfo.name(), addedInfo.name()),
+                () -> assertThat(snapshotStore.current().version()).isEqualTo(version + 1),
+                () -> assertThat(snapshotStore.find(pokemonInfo.name())).contains(new SpeciesEntry(3, pokemonInfo, null)),
+                () -> assertThat(snapshotStore.find(addedInfo.name())).isEmpty(),
+                () -> assertThat(snapshotStore.rollback()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("rollback should keep the species recorded since the last update")
+    void rollbackShouldKeepSpeciesRecordedSince() {
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(5).create();
+        final PokemonInfoResponse otherInfo = Instancio.of(PokemonInfoResponse.class).withSeed(6).create();
+        snapshotStore.record(5, pokemonInfo, "\"v1\"");
+        snapshotStore.record(6, otherInfo, "\"v1\"");
+        snapshotStore.apply(Map.of(
+                pokemonInfo.name(), new SpeciesEntry(5, pokemonInfo.withDescription("refreshed"), "\"v2\""),
+                otherInfo.name(), new SpeciesEntry(6, otherInfo.withDescription("refreshed"), "\"v2\"")
+        ));
+        final PokemonInfoResponse recordedInfo = otherInfo.withDescription("recorded");
+        snapshotStore.record(6, recordedInfo, "\"v3\"");
+
+        assertAll(
+                () -> assertThat(snapshotStore.rollback()).containsExactly(pokemonInfo.name()),
+                () -> assertThat(snapshotStore.find(pokemonInfo.name())).contains(new SpeciesEntry(5, pokemonInfo, "\"v1\"")),
+                () -> assertThat(snapshotStore.find(otherInfo.name())).contains(new SpeciesEntry(6, recordedInfo, "\"v3\""))
+        );
+    }
+
+    @Test
+    @DisplayName("record should make the species visible at once and ignore an unchanged species")
+    void recordShouldSwapInChangedSpeciesOnly() {
+        final PokemonInfoResponse pokemonInfo = Instancio.of(PokemonInfoResponse.class).withSeed(2).create();
+
+        snapshotStore.record(2, pokemonInfo, "\"v1\"");
+        final long version = snapshotStore.current().version();
+        snapshotStore.record(2, pokemonInfo, "\"v1\"");
+
+        assertAll(
+                () -> assertThat(snapshotStore.find(pokemonInfo.name())).contains(new SpeciesEntry(2, pokemonInfo, "\"v1\"")),
+                () -> assertThat(snapshotStore.current().version()).isEqualTo(version)
+        );
+    }
+
+    @Test
+    @DisplayName("concurrent records should all be visible, batched in at most one version each")
+    void concurrentRecordsShouldAllBeVisible() throws InterruptedException {
+        final int species = 1_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < species; i++) {
+            final int dexNumber = i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                snapshotStore.record(dexNumber, PokemonInfoResponse.builder().name("species-" + dexNumber).build(), null);
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        final SpeciesSnapshot snapshot = snapshotStore.current();
+        assertAll(
+                () -> assertThat(snapshot.entries()).hasSize(species),
+                () -> assertThat(snapshot.version()).isBetween(1L, (long) species),
+                () -> assertThat(snapshot.find("species-999")).map(SpeciesEntry::id).contains(999)
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package com.tommasoamadori.pokedex.tracing;
+
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest
+@Property(name = "spec.name", value = "SpanTracerTest")
+public class SpanTracerTest {
+
+    @Inject
+    private SpanTracer spanTracer;
+
+    @Inject
+    private InMemorySpanExporter spanExporter;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter.reset();
+    }
+
+    @Test
+    @DisplayName("inSpan should nest the spans of inner steps in the same trace")
+    void inSpanShouldNestSpans() {
+        final String result = spanTracer.inSpan("outer", () -> spanTracer.inSpan("inner", "pokemon.name", "pikachu", () -> "done"));
+
+        final List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        final SpanData inner = spans.get(0);
+        final SpanData outer = spans.get(1);
+
+        assertAll(
+                () -> assertThat(result).isEqualTo("done"),
+                () -> assertThat(inner.getName()).isEqualTo("inner"),
+                () -> assertThat(outer.getName()).isEqualTo("outer"),
+                () -> assertThat(inner.getTraceId()).isEqualTo(outer.getTraceId()),
+                () -> assertThat(inner.getParentSpanId()).isEqualTo(outer.getSpanId()),
+                () -> assertThat(inner.getAttributes().get(AttributeKey.stringKey("pokemon.name"))).isEqualTo("pikachu")
+        );
+    }
+
+    @Test
+    @DisplayName("inSpan should record the failure of the step")
+    void inSpanShouldRecordFailure() {
+        assertThrows(IllegalStateException.class, () -> spanTracer.inSpan("failing", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        final SpanData span = spanExporter.getFinishedSpanItems().get(0);
+
+        assertAll(
+                () -> assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR),
+                () -> assertThat(span.getEvents()).anyMatch(event -> event.getName().equals("exception"))
+        );
+    }
+
+    @Factory
+    @Requires(property = "spec.name", value = "SpanTracerTest")
+    static class InMemoryExporterFactory {
+
+        @Singleton
+        InMemorySpanExporter spanExporter() {
+            return InMemorySpanExporter.create();
+        }
+
+        @Singleton
+        SpanProcessor spanProcessor(InMemorySpanExporter spanExporter) {
+            return SimpleSpanProcessor.create(spanExporter);
+        }
+    }
+}
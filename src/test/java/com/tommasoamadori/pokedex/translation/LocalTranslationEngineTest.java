@@ -0,0 +1,37 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class LocalTranslationEngineTest {
+
+    private final LocalTranslationEngine engine = new LocalTranslationEngine();
+
+    @Test
+    @DisplayName("translate should move the predicate in front of the auxiliary verb in Yoda style")
+    void translateShouldReorderSentencesInYodaStyle() {
+        assertAll(
+                () -> assertThat(engine.translate(TranslationStyle.YODA, "It was created by a scientist. Pikachu sparks!"))
+                        .contains("Created by a scientist, it was. Pikachu sparks!"),
+                () -> assertThat(engine.translate(TranslationStyle.YODA, "Mewtwo is very strong"))
+                        .contains("Very strong, Mewtwo is.")
+        );
+    }
+
+    @Test
+    @DisplayName("translate should replace common words keeping their capitalization in Shakespeare style")
+    void translateShouldReplaceWordsInShakespeareStyle() {
+        assertThat(engine.translate(TranslationStyle.SHAKESPEARE, "You are my friend and your power has grown."))
+                .contains("Thou art my friend and thy power hath grown.");
+    }
+
+    @Test
+    @DisplayName("translate should not translate blank texts")
+    void translateShouldSkipBlankTexts() {
+        assertThat(engine.translate(TranslationStyle.YODA, " ")).isEmpty();
+    }
+}
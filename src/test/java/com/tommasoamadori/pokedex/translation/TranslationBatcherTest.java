@@ -0,0 +1,119 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import com.tommasoamadori.pokedex.deadline.Deadline;
+import com.tommasoamadori.pokedex.deadline.DeadlineContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.core.propagation.PropagatedContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class TranslationBatcherTest {
+
+    private final FunTranslationsTranslator translator = mock(FunTranslationsTranslator.class);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private final TranslationBatcher batcher = new TranslationBatcher(
+            translator,
+            new TranslationBatchConfiguration(true, Duration.ofSeconds(5), 2, 1500),
+            new SimpleMeterRegistry(),
+            scheduler,
+            executorService
+    );
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("translate should coalesce descriptions of the same style into a single call")
+    void translateShouldCoalesceDescriptions() {
+        when(translator.translate(eq(TranslationStyle.YODA), anyString()))
+                .thenReturn(Optional.of("[[0]] Strong, first is. [[1]] Second, this one is."));
+
+        final CompletableFuture<Optional<String>> first = CompletableFuture.supplyAsync(() -> batcher.translate(TranslationStyle.YODA, "First is strong."));
+        final CompletableFuture<Optional<String>> second = CompletableFuture.supplyAsync(() -> batcher.translate(TranslationStyle.YODA, "This one is second."));
+
+        assertAll(
+                () -> assertThat(List.of(first.join().orElseThrow(), second.join().orElseThrow()))
+                        .containsExactlyInAnyOrder("Strong, first is.", "Second, this one is."),
+                () -> verify(translator, times(1)).translate(eq(TranslationStyle.YODA), anyString())
+        );
+    }
+
+    @Test
+    @DisplayName("translate should fall back to one call per description when the markers are lost")
+    void translateShouldFallBackWhenSplitFails() {
+        when(translator.translate(eq(TranslationStyle.SHAKESPEARE), anyString())).thenAnswer(invocation -> {
+            final String text = invocation.getArgument(1);
+            return Optional.of(text.startsWith("[[") ? "Markers hath been lost" : "Translated " + text);
+        });
+
+        final CompletableFuture<Optional<String>> first = CompletableFuture.supplyAsync(() -> batcher.translate(TranslationStyle.SHAKESPEARE, "one"));
+        final CompletableFuture<Optional<String>> second = CompletableFuture.supplyAsync(() -> batcher.translate(TranslationStyle.SHAKESPEARE, "two"));
+
+        assertAll(
+                () -> assertThat(List.of(first.join().orElseThrow(), second.join().orElseThrow()))
+                        .containsExactlyInAnyOrder("Translated one", "Translated two"),
+                () -> verify(translator, times(3)).translate(eq(TranslationStyle.SHAKESPEARE), anyString())
+        );
+    }
+
+    @Test
+    @DisplayName("translate should bound the batched call by the latest deadline of its waiters")
+    void translateShouldBoundBatchByLatestDeadline() {
+        final AtomicReference<Optional<Deadline>> callDeadline = new AtomicReference<>();
+        when(translator.translate(eq(TranslationStyle.YODA), anyString())).thenAnswer(invocation -> {
+            callDeadline.set(DeadlineContext.current());
+            return Optional.of("[[0]] Short, first is. [[1]] Long, second is.");
+        });
+
+        final CompletableFuture<Optional<String>> first = CompletableFuture.supplyAsync(() ->
+                translateWithin(Duration.ofSeconds(2), "First is short."));
+        final CompletableFuture<Optional<String>> second = CompletableFuture.supplyAsync(() ->
+                translateWithin(Duration.ofSeconds(3), "Second is long."));
+        CompletableFuture.allOf(first, second).join();
+
+        assertThat(callDeadline.get()).hasValueSatisfying(deadline -> assertThat(deadline.remaining())
+                .isGreaterThan(Duration.ofSeconds(2))
+                .isLessThanOrEqualTo(Duration.ofSeconds(3)));
+    }
+
+    @Test
+    @DisplayName("split should reject translations with missing, reordered or empty parts")
+    void splitShouldValidateMarkers() {
+        assertAll(
+                () -> assertThat(TranslationBatcher.split("[[0]] a [[1]] b", 2)).contains(List.of("a", "b")),
+                () -> assertThat(TranslationBatcher.split("[[0]] a [[2]] b", 2)).isEmpty(),
+                () -> assertThat(TranslationBatcher.split("[[1]] a [[0]] b", 2)).isEmpty(),
+                () -> assertThat(TranslationBatcher.split("[[0]] [[1]] b", 2)).isEmpty(),
+                () -> assertThat(TranslationBatcher.split("x [[0]] a [[1]] b", 2)).isEmpty(),
+                () -> assertThat(TranslationBatcher.split("[[0]] a", 2)).isEmpty()
+        );
+    }
+
+    private Optional<String> translateWithin(Duration timeout, String text) {
+        try (PropagatedContext.Scope ignored = PropagatedContext.getOrEmpty()
+                .plus(new DeadlineContext(Deadline.after(timeout))).propagate()) {
+            return batcher.translate(TranslationStyle.YODA, text);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TranslationDecisionTableTest {
+
+    private final TranslationDecisionTable table = TranslationDecisionTable.compile(List.of(
+            new TranslationRule("legendary", 2, null, true, TranslationStyle.YODA),
+            new TranslationRule("cave", 1, "cave", null, TranslationStyle.YODA),
+            new TranslationRule("sea", 3, "sea", false, TranslationStyle.SHAKESPEARE)
+    ));
+
+    @Test
+    @DisplayName("the first matching rule by order should route the species")
+    void firstMatchingRuleShouldWin() {
+        assertAll(
+                () -> assertThat(ruleOf("cave", true)).isEqualTo("cave"),
+                () -> assertThat(ruleOf("cave", false)).isEqualTo("cave"),
+                () -> assertThat(ruleOf("sea", true)).isEqualTo("legendary"),
+                () -> assertThat(ruleOf("sea", false)).isEqualTo("sea")
+        );
+    }
+
+    @Test
+    @DisplayName("habitats named by no rule and missing habitats should only match habitat-agnostic rules")
+    void otherHabitatsShouldShareRow() {
+        assertAll(
+                () -> assertThat(ruleOf("forest", true)).isEqualTo("legendary"),
+                () -> assertThat(ruleOf(null, true)).isEqualTo("legendary"),
+                () -> assertThat(ruleOf("forest", false)).isEqualTo(TranslationDecisionTable.FALLBACK.name()),
+                () -> assertThat(ruleOf(null, false)).isEqualTo(TranslationDecisionTable.FALLBACK.name())
+        );
+    }
+
+    @Test
+    @DisplayName("without rules every species should be routed by the fallback rule")
+    void emptyRulesShouldUseFallback() {
+        final TranslationDecisionTable emptyTable = TranslationDecisionTable.compile(List.of());
+
+        assertThat(emptyTable.rule(emptyTable.ruleIndex("cave", true))).isEqualTo(TranslationDecisionTable.FALLBACK);
+    }
+
+    @Test
+    @DisplayName("a rule named as the fallback one should be rejected")
+    void ruleNamedFallbackShouldBeRejected() {
+        final List<TranslationRule> rules = List.of(
+                new TranslationRule(TranslationDecisionTable.FALLBACK.name(), 1, "cave", null, TranslationStyle.YODA));
+
+        assertThrows(IllegalArgumentException.class, () -> TranslationDecisionTable.compile(rules));
+    }
+
+    private String ruleOf(String habitat, boolean legendary) {
+        return table.rule(table.ruleIndex(habitat, legendary)).name();
+    }
+}
@@ -0,0 +1,136 @@
+package com.tommasoamadori.pokedex.translation;
+
+import com.tommasoamadori.pokedex.constant.TranslationStyle;
+import com.tommasoamadori.pokedex.dto.response.PokemonInfoResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.env.Environment;
+import io.micronaut.context.env.PropertySource;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class TranslationRouterTest {
+
+    private static final String RULES_PREFIX = TranslationRouter.RULES_PREFIX;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Environment environment;
+    private TranslationRouter translationRouter;
+
+    @BeforeEach
+    void setUp() {
+        // The cave and legendary rules come from application.yml, the sea rule is added on top
+        environment = ApplicationContext.builder()
+                .environments(Environment.TEST)
+                .properties(Map.of(
+                        RULES_PREFIX + ".sea.order", 3,
+                        RULES_PREFIX + ".sea.habitat", "sea",
+                        RULES_PREFIX + ".sea.legendary", false,
+                        RULES_PREFIX + ".sea.style", "SHAKESPEARE"
+                ))
+                .build()
+                .getEnvironment()
+                .start();
+        translationRouter = new TranslationRouter(environment, meterRegistry);
+        translationRouter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        environment.stop();
+    }
+
+    @Test
+    @DisplayName("route should follow the rules bound from every property source and count their hits")
+    void routeShouldFollowConfiguredRules() {
+        assertAll(
+                () -> assertThat(translationRouter.route(species("cave", false))).isEqualTo(TranslationStyle.YODA),
+                () -> assertThat(translationRouter.route(species("sea", true))).isEqualTo(TranslationStyle.YODA),
+                () -> assertThat(translationRouter.route(species("sea", false))).isEqualTo(TranslationStyle.SHAKESPEARE),
+                () -> assertThat(translationRouter.route(species("forest", false))).isEqualTo(TranslationStyle.SHAKESPEARE),
+                () -> assertThat(translationRouter.route(species(null, false))).isEqualTo(TranslationStyle.SHAKESPEARE)
+        );
+
+        assertAll(
+                () -> assertThat(translationRouter.hits()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                        "cave", 1L, "legendary", 1L, "sea", 1L, TranslationDecisionTable.FALLBACK.name(), 2L)),
+                () -> assertThat(meterRegistry.get("pokedex.translation.rule.hits").tag("rule", "sea").functionCounter().count())
+                        .isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("styleOf should not count a hit")
+    void styleOfShouldNotCountHit() {
+        final TranslationStyle style = translationRouter.styleOf(species("cave", false));
+
+        assertAll(
+                () -> assertThat(style).isEqualTo(TranslationStyle.YODA),
+                () -> assertThat(translationRouter.hits()).allSatisfy((rule, hits) -> assertThat(hits).isZero())
+        );
+    }
+
+    @Test
+    @DisplayName("a refresh event should reload the rules, keeping the hits counted so far")
+    void refreshShouldReloadRules() {
+        translationRouter.route(species("cave", false));
+
+        environment.addPropertySource(PropertySource.of("reloaded", Map.of(RULES_PREFIX + ".cave.style", "SHAKESPEARE"), Integer.MAX_VALUE));
+        translationRouter.onApplicationEvent(new RefreshEvent());
+        final TranslationStyle style = translationRouter.route(species("cave", false));
+
+        assertAll(
+                () -> assertThat(style).isEqualTo(TranslationStyle.SHAKESPEARE),
+                () -> assertThat(translationRouter.hits()).containsEntry("cave", 2L)
+        );
+    }
+
+    @Test
+    @DisplayName("a reload with an unknown style should keep the previous rules")
+    void reloadWithUnknownStyleShouldKeepPreviousRules() {
+        environment.addPropertySource(PropertySource.of("unknown-style", Map.of(
+                RULES_PREFIX + ".forest.habitat", "forest",
+                RULES_PREFIX + ".forest.style", "KLINGON"
+        ), Integer.MAX_VALUE));
+        translationRouter.onApplicationEvent(new RefreshEvent());
+
+        assertAll(
+                () -> assertThat(translationRouter.styleOf(species("forest", false))).isEqualTo(TranslationStyle.SHAKESPEARE),
+                () -> assertThat(translationRouter.styleOf(species("cave", false))).isEqualTo(TranslationStyle.YODA)
+        );
+    }
+
+    @Test
+    @DisplayName("a reload with a rule named fallback should keep the previous rules")
+    void reloadWithRuleNamedFallbackShouldKeepPreviousRules() {
+        environment.addPropertySource(PropertySource.of("fallback-name", Map.of(
+                RULES_PREFIX + ".fallback.habitat", "forest",
+                RULES_PREFIX + ".fallback.style", "YODA"
+        ), Integer.MAX_VALUE));
+        translationRouter.onApplicationEvent(new RefreshEvent());
+
+        assertAll(
+                () -> assertThat(translationRouter.styleOf(species("forest", false))).isEqualTo(TranslationStyle.SHAKESPEARE),
+                () -> assertThat(translationRouter.styleOf(species("cave", false))).isEqualTo(TranslationStyle.YODA)
+        );
+    }
+
+    private static PokemonInfoResponse species(String habitat, boolean legendary) {
+        return PokemonInfoResponse.builder()
+                .name("some-pokemon")
+                .description("Some description")
+                .habitat(habitat)
+                .isLegendary(legendary)
+                .build();
+    }
+}